@@ -0,0 +1,58 @@
+package com.ktnu.AiLectureSummary.benchmark;
+
+import com.ktnu.AiLectureSummary.global.config.JwtProperties;
+import com.ktnu.AiLectureSummary.global.security.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터의 요청당 토큰 처리 비용 비교
+ * - perRequestParserTwice: 기존 방식 (요청마다 파서를 새로 만들고, 검증 + 사용자 ID 추출로 두 번 파싱)
+ * - prebuiltParserOnce: 현재 방식 (기동 시 만든 파서로 한 번만 파싱)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private SecretKey key;
+    private JwtProvider jwtProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setExpiration(3_600_000);
+        jwtProperties.setRefreshExpiration(604_800_000);
+
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtProvider = new JwtProvider(jwtProperties);
+        accessToken = jwtProvider.generateAccessToken(1L);
+    }
+
+    @Benchmark
+    public long perRequestParserTwice() {
+        // 토큰 검증
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(accessToken);
+        // 사용자 ID 추출
+        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(accessToken).getPayload();
+        return Long.parseLong(claims.getSubject());
+    }
+
+    @Benchmark
+    public long prebuiltParserOnce() {
+        Claims claims = jwtProvider.parseAccessToken(accessToken).orElseThrow();
+        return Long.parseLong(claims.getSubject());
+    }
+}
@@ -0,0 +1,44 @@
+package com.ktnu.AiLectureSummary.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 검증(로그인 1회) 비용 측정
+ * password-hashing.algorithm / bcrypt-strength를 정할 때 배포 서버에서 실행해 목표 지연 시간과 비교합니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=PasswordHashingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "benchmark-password";
+
+    @Param({"bcrypt-10", "bcrypt-11", "bcrypt-12", "argon2", "pbkdf2"})
+    private String encoderName;
+
+    private PasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoder = switch (encoderName) {
+            case "argon2" -> Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+            case "pbkdf2" -> Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+            default -> new BCryptPasswordEncoder(Integer.parseInt(encoderName.substring("bcrypt-".length())));
+        };
+        encoded = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, encoded);
+    }
+}
@@ -2,8 +2,10 @@ package com.ktnu.AiLectureSummary;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // 블랙리스트 재동기화
 public class AiLectureSummaryApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,30 @@
+package com.ktnu.AiLectureSummary.application.dto.lecture.response;
+
+import com.ktnu.AiLectureSummary.domain.SummaryJob;
+import com.ktnu.AiLectureSummary.domain.SummaryJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 요약 작업 등록/조회 시 클라이언트에게 반환되는 응답 DTO
+ * 작업이 DONE 상태가 되면 lectureId로 강의 상세를 조회할 수 있음
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class SummaryJobResponse {
+    private Long jobId;
+    private SummaryJobStatus status;
+    private Long lectureId;
+    private String errorMessage;
+
+    public static SummaryJobResponse from(SummaryJob job) {
+        return SummaryJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .lectureId(job.getLectureId())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.ktnu.AiLectureSummary.application.dto.memberLecture.request;
+
+/**
+ * 대시보드 강의 목록 정렬 기준
+ * 각 정렬은 (정렬 값, MemberLecture ID)를 커서로 사용하는 keyset 페이지네이션으로 조회합니다.
+ */
+public enum DashboardSort {
+    ENROLLED_AT, // 등록일 최신순
+    CUSTOM_TITLE, // 제목 오름차순
+    DURATION // 영상 길이 긴 순
+}
@@ -0,0 +1,17 @@
+package com.ktnu.AiLectureSummary.application.dto.memberLecture.request;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 강의 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LectureExportFormat {
+    ZIP("application/zip", "zip"), // 강의별 PDF를 묶은 ZIP
+    MERGED_PDF("application/pdf", "pdf"); // 모든 강의를 이어 붙인 PDF 하나
+
+    private final String contentType;
+    private final String extension;
+}
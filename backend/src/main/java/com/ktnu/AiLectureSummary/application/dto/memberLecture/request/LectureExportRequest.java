@@ -0,0 +1,34 @@
+package com.ktnu.AiLectureSummary.application.dto.memberLecture.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LectureExportRequest {
+    @Size(max = 500, message = "한 번에 최대 500개 강의까지 내보낼 수 있습니다.")
+    @Schema(description = "내보낼 강의 ID 목록 (all이 true면 무시)", example = "[1, 2, 3]")
+    private List<Long> lectureIds;
+
+    @Schema(description = "등록한 모든 강의 내보내기", example = "false")
+    private boolean all;
+
+    @Schema(description = "내보내기 형식 (ZIP: 강의별 PDF 묶음, MERGED_PDF: PDF 하나)", example = "ZIP")
+    private LectureExportFormat format = LectureExportFormat.ZIP;
+
+    @Schema(description = "ZIP에 담을 문서 형식 (pdf, md, txt, docx), MERGED_PDF는 항상 pdf", example = "pdf")
+    private String documentFormat = "pdf";
+
+    @AssertTrue(message = "내보낼 강의 ID 목록을 입력하거나 전체 내보내기를 선택해 주세요.")
+    @Schema(hidden = true)
+    public boolean isSelectionValid() {
+        return all || (lectureIds != null && !lectureIds.isEmpty());
+    }
+}
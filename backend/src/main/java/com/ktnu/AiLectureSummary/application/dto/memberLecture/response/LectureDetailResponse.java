@@ -20,7 +20,7 @@ public class LectureDetailResponse {
     private String memo;
     private long duration;
     private LocalDateTime enrolledAt;
-    private String thumbnailBase64;
+    private String thumbnailUrl; // 썸네일 조회 URL (썸네일이 없으면 null)
     private String youtubeUrl;
 
     public static LectureDetailResponse from(MemberLecture memberLecture) {
@@ -35,7 +35,7 @@ public class LectureDetailResponse {
                 .memo(memberLecture.getMemo())
                 .enrolledAt(memberLecture.getEnrolledAt())
                 .youtubeUrl(lecture.getYoutubeUrl())
-                .thumbnailBase64(ThumbnailUtil.encodeBase64ThumbnailSafe(memberLecture.getLecture().getThumbnail()))
+                .thumbnailUrl(ThumbnailUtil.thumbnailUrl(lecture.getId(), lecture.getThumbnailKey()))
                 .build();
     }
 
@@ -0,0 +1,15 @@
+package com.ktnu.AiLectureSummary.application.dto.memberLecture.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Getter
+@AllArgsConstructor
+public class LectureDocumentResponse {
+    private MediaType contentType;
+    private String fileName;
+    private String eTag; // 문서 내용 버전과 형식 (같으면 304)
+    private StreamingResponseBody body; // 응답을 쓸 때 캐시에서 복사하거나 새로 생성
+}
@@ -0,0 +1,13 @@
+package com.ktnu.AiLectureSummary.application.dto.memberLecture.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Getter
+@AllArgsConstructor
+public class LectureExportResponse {
+    private String contentType;
+    private String fileName;
+    private StreamingResponseBody body; // 강의를 나누어 생성하면서 바로 응답에 씀
+}
@@ -1,6 +1,6 @@
 package com.ktnu.AiLectureSummary.application.dto.memberLecture.response;
 
-import com.ktnu.AiLectureSummary.domain.MemberLecture;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureListItemView;
 import com.ktnu.AiLectureSummary.util.ThumbnailUtil;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,19 +19,19 @@ public class MemberLectureListItemResponse {
     private Long duration;
     private LocalDateTime enrolledAt;
     private String youtubeUrl;
-    private String thumbnailBase64;
+    private String thumbnailUrl; // 썸네일 조회 URL (썸네일이 없으면 null)
 
-    public static List<MemberLectureListItemResponse> fromList(List<MemberLecture> memberLectures) {
+    public static List<MemberLectureListItemResponse> fromList(List<MemberLectureListItemView> views) {
 
-        return memberLectures.stream()
-                .map(memberLecture -> new MemberLectureListItemResponse(
-                        memberLecture.getLecture().getId(),
-                        memberLecture.getCustomTitle(),
-                        memberLecture.getLecture().getDuration(),
-                        memberLecture.getEnrolledAt(),
-                        memberLecture.getLecture().getYoutubeUrl(),
-                        ThumbnailUtil.encodeBase64ThumbnailSafe(memberLecture.getLecture().getThumbnail())
+        return views.stream()
+                .map(view -> new MemberLectureListItemResponse(
+                        view.getLectureId(),
+                        view.getCustomTitle(),
+                        view.getDuration(),
+                        view.getEnrolledAt(),
+                        view.getYoutubeUrl(),
+                        ThumbnailUtil.thumbnailUrl(view.getLectureId(), view.getThumbnailKey())
                 ))
                 .toList();
     }
-}
\ No newline at end of file
+}
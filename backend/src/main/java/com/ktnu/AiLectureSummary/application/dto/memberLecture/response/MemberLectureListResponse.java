@@ -1,6 +1,6 @@
 package com.ktnu.AiLectureSummary.application.dto.memberLecture.response;
 
-import com.ktnu.AiLectureSummary.domain.MemberLecture;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureListItemView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,9 +15,9 @@ public class MemberLectureListResponse {
     private List<MemberLectureListItemResponse> items;
     private long totalDuration;
 
-    public static MemberLectureListResponse from(List<MemberLecture> memberLectures, long totalDuration) {
+    public static MemberLectureListResponse from(List<MemberLectureListItemView> views, long totalDuration) {
         return MemberLectureListResponse.builder()
-                .items(MemberLectureListItemResponse.fromList(memberLectures))
+                .items(MemberLectureListItemResponse.fromList(views))
                 .totalDuration(totalDuration)
                 .build();
     }
@@ -0,0 +1,34 @@
+package com.ktnu.AiLectureSummary.application.dto.memberLecture.response;
+
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureListItemView;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureStatsView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 대시보드 강의 목록 페이지 응답
+ * totalCount, totalDuration은 첫 페이지(커서 없음)에서만 채워집니다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class MemberLecturePageResponse {
+    private List<MemberLectureListItemResponse> items;
+    private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+    private Long totalCount;
+    private Long totalDuration;
+
+    public static MemberLecturePageResponse of(List<MemberLectureListItemView> views, String nextCursor, MemberLectureStatsView stats) {
+        return MemberLecturePageResponse.builder()
+                .items(MemberLectureListItemResponse.fromList(views))
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .totalCount(stats == null ? null : stats.getLectureCount())
+                .totalDuration(stats == null ? null : stats.getTotalDuration())
+                .build();
+    }
+}
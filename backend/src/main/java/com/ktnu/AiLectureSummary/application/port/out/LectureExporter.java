@@ -0,0 +1,38 @@
+package com.ktnu.AiLectureSummary.application.port.out;
+
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureDocumentView;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 사용자 강의를 문서 형식(PDF, Markdown, 텍스트, DOCX)으로 내보냅니다.
+ * 구현체의 @Order 순서가 Accept 헤더로 형식을 고를 때의 우선순위입니다. (모든 형식을 허용하면 첫 번째 형식)
+ */
+public interface LectureExporter {
+
+    MediaType getMediaType();
+
+    // 파일 확장자이자 format 파라미터 값 (pdf, md, txt, docx)
+    String getExtension();
+
+    // 문서 구성(문구, 순서 등)을 바꾸면 올려서 이전 캐시와 ETag를 무효화
+    default int getLayoutVersion() {
+        return 1;
+    }
+
+    // 생성 비용이 커서 결과를 캐시할지 여부
+    default boolean isCacheable() {
+        return false;
+    }
+
+    // 응답을 쓰기 전에 요청 스레드에서 문서를 만들 수 있는지 확인 (예: 폰트 파일)
+    default void checkAvailable() {
+    }
+
+    /**
+     * 문서를 outputStream에 씁니다. outputStream은 닫지 않습니다. (호출한 쪽에서 관리)
+     */
+    void export(MemberLectureDocumentView document, OutputStream outputStream) throws IOException;
+}
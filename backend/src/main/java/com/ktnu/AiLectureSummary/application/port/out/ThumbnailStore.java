@@ -0,0 +1,15 @@
+package com.ktnu.AiLectureSummary.application.port.out;
+
+import java.util.Optional;
+
+/**
+ * 강의 썸네일 이미지를 저장/조회/삭제합니다.
+ * 키는 이미지 내용의 SHA-256 해시(hex)이므로 같은 키의 내용은 바뀌지 않습니다.
+ */
+public interface ThumbnailStore {
+    void save(String key, byte[] image);
+
+    Optional<byte[]> load(String key);
+
+    void delete(String key);
+}
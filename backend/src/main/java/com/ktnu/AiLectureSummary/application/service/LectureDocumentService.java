@@ -1,23 +1,24 @@
 package com.ktnu.AiLectureSummary.application.service;
 
-import com.ktnu.AiLectureSummary.domain.MemberLecture;
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.response.LectureDocumentResponse;
+import com.ktnu.AiLectureSummary.application.port.out.LectureExporter;
+import com.ktnu.AiLectureSummary.global.exception.ExportFormatNotSupportedException;
 import com.ktnu.AiLectureSummary.global.exception.LectureNotFoundException;
-import com.ktnu.AiLectureSummary.global.exception.PdfGenerateFailException;
+import com.ktnu.AiLectureSummary.infrastructure.pdf.PdfArtifactCache;
 import com.ktnu.AiLectureSummary.repository.MemberLectureRepository;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureDocumentView;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureVersionView;
 import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
-import com.lowagie.text.Document;
-import com.lowagie.text.DocumentException;
-import com.lowagie.text.Paragraph;
-import com.lowagie.text.pdf.PdfWriter;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
 
 
 @Service
@@ -25,58 +26,99 @@ import java.nio.charset.StandardCharsets;
 public class LectureDocumentService {
 
     private final MemberLectureRepository memberLectureRepository;
+    private final PdfArtifactCache pdfArtifactCache;
+    private final List<LectureExporter> lectureExporters; // @Order 순 (첫 번째가 기본 형식)
 
     /**
-     * 사용자의 강의 요약과 메모를 PDF로 생성합니다.
+     * 내보내기 형식을 고릅니다.
+     * format 파라미터(확장자)가 있으면 그 형식을, 없으면 Accept 헤더에서 품질 값(q)이 높은 순으로 처음 맞는 형식을 사용합니다.
      *
-     * @param user      사용자 정보
-     * @param lectureId 강의 ID
-     * @return PDF 바이트 배열
+     * @param format             확장자 (pdf, md, txt, docx), 없으면 null
+     * @param acceptedMediaTypes Accept 헤더의 미디어 타입 목록 (비어 있으면 기본 형식)
+     * @throws ExportFormatNotSupportedException 맞는 형식이 없는 경우
      */
-    public byte[] generateLecturePdf(CustomUserDetails user, Long lectureId) {
-        MemberLecture memberLecture = memberLectureRepository.findByMember_IdAndLecture_Id(user.getId(), lectureId)
-                .orElseThrow(() -> new LectureNotFoundException("해당 강의를 찾을 수 없습니다."));
+    public LectureExporter selectExporter(String format, List<MediaType> acceptedMediaTypes) {
+        if (format != null) {
+            return getExporter(format);
+        }
+        if (acceptedMediaTypes.isEmpty()) {
+            return lectureExporters.get(0);
+        }
 
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // 품질 값이 같으면 헤더에 적힌 순서 유지 (정렬이 stable)
+        List<MediaType> accepted = acceptedMediaTypes.stream()
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .toList();
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            for (LectureExporter exporter : lectureExporters) {
+                if (mediaType.includes(exporter.getMediaType())) {
+                    return exporter;
+                }
+            }
+        }
+        throw new ExportFormatNotSupportedException("지원하지 않는 내보내기 형식입니다.");
+    }
 
-        com.lowagie.text.pdf.BaseFont baseFont = loadNanumGothicFont();
+    /**
+     * 확장자로 내보내기 형식을 찾습니다.
+     *
+     * @throws ExportFormatNotSupportedException 지원하지 않는 확장자인 경우
+     */
+    public LectureExporter getExporter(String extension) {
+        return lectureExporters.stream()
+                .filter(exporter -> exporter.getExtension().equals(extension.toLowerCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new ExportFormatNotSupportedException("지원하지 않는 내보내기 형식입니다: " + extension));
+    }
 
-        // PDF 문서를 생성하고 내용을 추가합니다.
-        try {
-            Document document = new Document();
-            PdfWriter.getInstance(document, outputStream);
+    /**
+     * 사용자의 강의 요약과 메모 문서를 준비합니다.
+     * 요청 스레드에서는 문서 버전(ETag)만 조회하고, 문서 내용은 응답을 쓸 때 캐시에서 복사하거나 새로 생성합니다.
+     * 없는 강의는 응답을 쓰기 전에 404로 처리됩니다.
+     *
+     * @param user      사용자 정보
+     * @param lectureId 강의 ID
+     * @param exporter  내보내기 형식
+     * @return 응답 형식, ETag와 응답 스트림에 문서를 쓰는 StreamingResponseBody
+     */
+    public LectureDocumentResponse prepareDocument(CustomUserDetails user, Long lectureId, LectureExporter exporter) {
+        MemberLectureVersionView version = memberLectureRepository.findVersion(user.getId(), lectureId)
+                .orElseThrow(() -> new LectureNotFoundException("해당 강의를 찾을 수 없습니다."));
+        exporter.checkAvailable();
 
-            com.lowagie.text.Font font = new com.lowagie.text.Font(baseFont, 12);
-            document.open();
+        Long memberId = user.getId();
+        String cacheVersion = cacheVersion(exporter, version.getContentVersion());
+        // 같은 버전이라도 생성할 때마다 바이트(PDF 생성 시각 등)는 달라질 수 있으므로 weak ETag
+        String eTag = "W/\"" + version.getId() + "-" + cacheVersion + "." + exporter.getExtension() + "\"";
 
-            document.add(new Paragraph("강의 제목: " + memberLecture.getCustomTitle(), font));
-            document.add(new Paragraph("\n"));
-            document.add(new Paragraph("AI 요약: " + memberLecture.getLecture().getAiSummary(), font));
-            document.add(new Paragraph("\n"));
-            document.add(new Paragraph("원문: " + memberLecture.getLecture().getOriginalText(), font));
-            document.add(new Paragraph("\n"));
-            document.add(new Paragraph("사용자 메모: " + (memberLecture.getMemo() != null ? memberLecture.getMemo() : "(없음)"), font));
+        return new LectureDocumentResponse(exporter.getMediaType(), "lecture-summary." + exporter.getExtension(), eTag,
+                outputStream -> writeDocument(memberId, lectureId, version, exporter, outputStream));
+    }
 
-            document.close();
+    /**
+     * 캐시 키에 사용할 버전 (문서 내용 버전 + 형식별 문서 구성 버전)
+     */
+    public String cacheVersion(LectureExporter exporter, long contentVersion) {
+        return contentVersion + "-" + exporter.getLayoutVersion();
+    }
 
-            // PDF 생성 중 오류가 발생한 경우 예외를 처리
-        } catch (DocumentException e) {
-            throw new PdfGenerateFailException("PDF 생성 중 오류 발생", e);
+    private void writeDocument(Long memberId, Long lectureId, MemberLectureVersionView version, LectureExporter exporter, OutputStream outputStream) throws IOException {
+        String cacheVersion = cacheVersion(exporter, version.getContentVersion());
+        if (exporter.isCacheable() && pdfArtifactCache.copyTo(version.getId(), cacheVersion, outputStream)) {
+            return;
         }
 
-        return outputStream.toByteArray();
-
-    }
-
-    private com.lowagie.text.pdf.BaseFont loadNanumGothicFont() {
-        try (InputStream fontStream = getClass().getClassLoader().getResourceAsStream("fonts/NanumGothic.ttf")) {
-            if (fontStream == null) {
-                throw new PdfGenerateFailException("폰트 파일을 찾을 수 없습니다.");
-            }
-            byte[] fontBytes = fontStream.readAllBytes();
-            return com.lowagie.text.pdf.BaseFont.createFont("NanumGothic.ttf", com.lowagie.text.pdf.BaseFont.IDENTITY_H, com.lowagie.text.pdf.BaseFont.EMBEDDED, false, fontBytes, null);
-        } catch (IOException | DocumentException e) {
-            throw new PdfGenerateFailException("폰트 로딩 중 오류 발생", e);
+        MemberLectureDocumentView document = memberLectureRepository.findDocument(memberId, lectureId)
+                .orElseThrow(() -> new LectureNotFoundException("해당 강의를 찾을 수 없습니다."));
+        // 가벼운 형식은 바로 생성, 버전 조회 이후 제목/메모가 바뀌었으면 캐시하지 않음 (새 내용이 이전 버전 키로 저장되지 않도록)
+        if (!exporter.isCacheable() || document.getContentVersion() != version.getContentVersion()) {
+            exporter.export(document, outputStream);
+            return;
         }
+        pdfArtifactCache.writeThrough(version.getId(), cacheVersion, outputStream,
+                target -> exporter.export(document, target));
     }
 }
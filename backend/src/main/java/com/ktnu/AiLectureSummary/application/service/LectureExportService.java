@@ -0,0 +1,259 @@
+package com.ktnu.AiLectureSummary.application.service;
+
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.request.LectureExportFormat;
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.request.LectureExportRequest;
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.response.LectureExportResponse;
+import com.ktnu.AiLectureSummary.application.port.out.LectureExporter;
+import com.ktnu.AiLectureSummary.global.config.PdfProperties;
+import com.ktnu.AiLectureSummary.global.exception.LectureNotFoundException;
+import com.ktnu.AiLectureSummary.global.exception.PdfGenerateFailException;
+import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
+import com.ktnu.AiLectureSummary.infrastructure.pdf.PdfArtifactCache;
+import com.ktnu.AiLectureSummary.repository.MemberLectureRepository;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureDocumentView;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureExportView;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.pdf.PdfCopy;
+import com.lowagie.text.pdf.PdfReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 여러 강의를 ZIP(강의별 문서) 또는 PDF 하나로 내보냅니다.
+ *
+ * - 내보낼 강의 목록은 한 번의 쿼리로 조회하고, 강의 원문/요약은 배치 단위로 캐시에 없는 강의만 한 번에 조회합니다.
+ * - 문서는 documentRenderExecutor에서 병렬로 생성하여 응답에는 순서대로 복사합니다.
+ *   PDF는 캐시(없으면 임시 파일)에 쓰고, 가벼운 형식(Markdown 등)은 강의 내용과 크기가 비슷하므로 메모리에 생성합니다.
+ * - 다음 배치를 미리 생성하는 동안 현재 배치를 응답에 쓰며, 메모리에는 최대 두 배치의 강의만 올라가므로 강의 수와 관계없이 사용량이 일정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LectureExportService {
+
+    private static final int MAX_FILE_NAME_LENGTH = 100;
+
+    private final MemberLectureRepository memberLectureRepository;
+    private final LectureDocumentService lectureDocumentService;
+    private final PdfArtifactCache pdfArtifactCache;
+    private final ThreadPoolTaskExecutor documentRenderExecutor;
+    private final PdfProperties pdfProperties;
+
+    /**
+     * 생성된 문서를 응답에 쓰는 작업
+     */
+    @FunctionalInterface
+    private interface DocumentWriter {
+        void write(MemberLectureExportView target, InputStream document) throws IOException;
+    }
+
+    /**
+     * 여러 강의 내보내기를 준비합니다.
+     * 강의 목록 조회와 형식/폰트 확인은 요청 스레드에서 먼저 끝내므로, 내보낼 강의가 없으면 응답을 쓰기 전에 404로 처리됩니다.
+     *
+     * @param user    사용자 정보
+     * @param request 내보낼 강의 ID 목록(또는 전체)과 형식
+     * @return 응답 형식, 파일 이름과 응답 스트림에 내보내기 결과를 쓰는 StreamingResponseBody
+     */
+    public LectureExportResponse prepareExport(CustomUserDetails user, LectureExportRequest request) {
+        List<MemberLectureExportView> targets = request.isAll()
+                ? memberLectureRepository.findExportTargets(user.getId())
+                : memberLectureRepository.findExportTargets(user.getId(), new LinkedHashSet<>(request.getLectureIds()));
+        if (targets.isEmpty()) {
+            throw new LectureNotFoundException("내보낼 강의를 찾을 수 없습니다.");
+        }
+
+        LectureExportFormat format = request.getFormat() != null ? request.getFormat() : LectureExportFormat.ZIP;
+        LectureExporter exporter = lectureDocumentService.getExporter(
+                format == LectureExportFormat.MERGED_PDF || request.getDocumentFormat() == null ? "pdf" : request.getDocumentFormat());
+        exporter.checkAvailable();
+
+        return new LectureExportResponse(format.getContentType(), "lectures." + format.getExtension(), outputStream -> {
+            if (format == LectureExportFormat.MERGED_PDF) {
+                writeMergedPdf(targets, exporter, outputStream);
+            } else {
+                writeZip(targets, exporter, outputStream);
+            }
+        });
+    }
+
+    private void writeZip(List<MemberLectureExportView> targets, LectureExporter exporter, OutputStream outputStream) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        zip.setLevel(Deflater.BEST_SPEED); // PDF/DOCX는 이미 압축되어 있어 압축률 차이가 거의 없음
+        Set<String> entryNames = new HashSet<>();
+
+        forEachDocument(targets, exporter, (target, document) -> {
+            zip.putNextEntry(new ZipEntry(entryName(target, exporter.getExtension(), entryNames)));
+            document.transferTo(zip);
+            zip.closeEntry();
+        });
+        zip.finish(); // 응답 스트림은 닫지 않음
+    }
+
+    private void writeMergedPdf(List<MemberLectureExportView> targets, LectureExporter pdfExporter, OutputStream outputStream) throws IOException {
+        try {
+            Document merged = new Document();
+            PdfCopy copy = new PdfCopy(merged, outputStream);
+            copy.setCloseStream(false);
+            merged.open();
+
+            forEachDocument(targets, pdfExporter, (target, document) -> {
+                PdfReader reader = new PdfReader(document);
+                try {
+                    for (int page = 1; page <= reader.getNumberOfPages(); page++) {
+                        copy.addPage(copy.getImportedPage(reader, page));
+                    }
+                    copy.freeReader(reader); // 복사한 페이지를 바로 내보내고 문서를 메모리에서 해제
+                } catch (DocumentException e) {
+                    throw new PdfGenerateFailException("PDF 병합 중 오류 발생", e);
+                } finally {
+                    reader.close();
+                }
+            });
+            merged.close();
+        } catch (DocumentException e) {
+            throw new PdfGenerateFailException("PDF 병합 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 강의 목록을 배치로 나누어 병렬로 생성하고, 목록 순서대로 writer에 넘깁니다.
+     * 현재 배치를 쓰는 동안 다음 배치를 미리 생성합니다.
+     */
+    private void forEachDocument(List<MemberLectureExportView> targets, LectureExporter exporter, DocumentWriter writer) throws IOException {
+        int batchSize = Math.max(1, pdfProperties.getExportBatchSize());
+        List<CompletableFuture<InputStream>> current = submitBatch(targets, exporter, 0, batchSize);
+        List<CompletableFuture<InputStream>> next = List.of();
+        try {
+            for (int from = 0; from < targets.size(); from += batchSize) {
+                next = submitBatch(targets, exporter, from + batchSize, batchSize);
+                for (int i = 0; i < current.size(); i++) {
+                    try (InputStream document = join(current.get(i))) {
+                        writer.write(targets.get(from + i), document);
+                    }
+                }
+                current = next;
+                next = List.of();
+            }
+        } finally {
+            // 중간에 실패하거나 클라이언트가 연결을 끊은 경우 남은 문서 정리 (임시 파일 삭제)
+            closeQuietly(current);
+            closeQuietly(next);
+        }
+    }
+
+    private List<CompletableFuture<InputStream>> submitBatch(List<MemberLectureExportView> targets, LectureExporter exporter, int from, int batchSize) {
+        if (from >= targets.size()) {
+            return List.of();
+        }
+        List<MemberLectureExportView> batch = targets.subList(from, Math.min(from + batchSize, targets.size()));
+
+        // 캐시에 없는 강의만 원문/요약과 함께 한 번의 쿼리로 조회
+        List<Long> uncachedIds = batch.stream()
+                .filter(target -> !exporter.isCacheable()
+                        || !pdfArtifactCache.contains(target.getId(), lectureDocumentService.cacheVersion(exporter, target.getContentVersion())))
+                .map(MemberLectureExportView::getId)
+                .toList();
+        Map<Long, MemberLectureDocumentView> documents = uncachedIds.isEmpty() ? Map.of()
+                : memberLectureRepository.findDocumentsByIdIn(uncachedIds).stream()
+                .collect(Collectors.toMap(MemberLectureDocumentView::getId, Function.identity()));
+
+        List<CompletableFuture<InputStream>> rendered = new ArrayList<>(batch.size());
+        for (MemberLectureExportView target : batch) {
+            MemberLectureDocumentView document = documents.get(target.getId());
+            rendered.add(CompletableFuture.supplyAsync(() -> openDocument(target, document, exporter), documentRenderExecutor));
+        }
+        return rendered;
+    }
+
+    private InputStream openDocument(MemberLectureExportView target, MemberLectureDocumentView document, LectureExporter exporter) {
+        try {
+            if (!exporter.isCacheable()) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                exporter.export(document != null ? document : load(target), outputStream);
+                return new ByteArrayInputStream(outputStream.toByteArray());
+            }
+            // 목록 조회 이후 제목/메모가 바뀌었으면 조회한 내용의 버전으로 캐시
+            long contentVersion = document != null ? document.getContentVersion() : target.getContentVersion();
+            return pdfArtifactCache.open(target.getId(), lectureDocumentService.cacheVersion(exporter, contentVersion),
+                    outputStream -> exporter.export(document != null ? document : load(target), outputStream));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 캐시 확인 후 파일이 삭제된 경우(다른 요청이 새 버전을 저장) 해당 강의만 다시 조회
+    private MemberLectureDocumentView load(MemberLectureExportView target) {
+        return memberLectureRepository.findDocumentsByIdIn(List.of(target.getId())).stream()
+                .findFirst()
+                .orElseThrow(() -> new LectureNotFoundException("해당 강의를 찾을 수 없습니다."));
+    }
+
+    private InputStream join(CompletableFuture<InputStream> document) throws IOException {
+        try {
+            return document.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private void closeQuietly(List<CompletableFuture<InputStream>> documents) {
+        for (CompletableFuture<InputStream> document : documents) {
+            document.thenAccept(inputStream -> {
+                try {
+                    inputStream.close();
+                } catch (IOException ignored) {
+                    // 정리 중 오류는 무시
+                }
+            });
+        }
+    }
+
+    // ZIP 항목 이름: "{제목}.{확장자}" (파일 이름에 쓸 수 없는 문자는 _로 바꾸고, 제목이 겹치면 강의 ID를 붙임)
+    private String entryName(MemberLectureExportView target, String extension, Set<String> entryNames) {
+        String title = target.getCustomTitle() == null ? "" : target.getCustomTitle()
+                .replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_")
+                .trim();
+        if (title.length() > MAX_FILE_NAME_LENGTH) {
+            title = title.substring(0, MAX_FILE_NAME_LENGTH);
+        }
+        if (title.isEmpty()) {
+            title = "lecture";
+        }
+
+        String name = title + "." + extension;
+        if (!entryNames.add(name)) {
+            name = title + " (" + target.getLectureId() + ")." + extension;
+            entryNames.add(name);
+        }
+        return name;
+    }
+}
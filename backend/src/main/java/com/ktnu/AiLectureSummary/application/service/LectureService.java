@@ -22,11 +22,6 @@ import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Base64;
 import java.util.Optional;
 
 @Service
@@ -34,76 +29,45 @@ import java.util.Optional;
 public class LectureService {
     private final LectureRepository lectureRepository;
     private final LectureSummaryFromFilePort lectureSummaryFromFilePort;
+    private final ThumbnailService thumbnailService;
 
     /**
-     * 업로드된 음성 또는 비디오 파일을 해싱하여 중복 여부를 검사하고, (업로드된 적이 있는 "영상 또는 음성파일"에 대해서만 중복여부 판단 가능)
-     * FastAPI 서버에 전송하여 요약 정보를 받은 후, 이를 DB에 저장한다.
+     * 같은 해시를 가진 강의가 이미 저장되어 있는지 조회한다. (업로드된 적이 있는 "영상 또는 음성파일"에 대해서만 중복여부 판단 가능)
      *
-     * @param file 사용자가 업로드한 비디오 파일
-     * @return lecture 객체
+     * @param mediaHash 미디어 파일 해시
+     * @return 저장된 강의 (없으면 empty)
      */
-    public Lecture processLecture(MultipartFile file) {
-        validateMediaFile(file);
-
-        // MediaHasing & DB에 중복되는 영상이 존재하는지 확인
-        String mediaHash = generateMediaHash(file);
-        Optional<Lecture> optionalLecture = lectureRepository.findByHash(mediaHash);
-
-        // 이미 존재하는 경우 바로 바로 반환
-        if (optionalLecture.isPresent()) {
-            return optionalLecture.get();
-        }
-
-        // FastAPI 호출
-        LectureSummaryResponse registerRequest = lectureSummaryFromFilePort.requestSummary(file);
-
-        // 썸네일 이미지는 DB에 저장되며, 프론트 전달 시 Base64로 인코딩되어 전송됨
-        // 썸네일 Base64 디코딩 // 음성 파일의 경우 썸네일 없음
-        byte[] thumbnailBytes = ThumbnailUtil.decodeBase64ThumbnailSafe(registerRequest.getThumbnail());
-
-        // DB에 강의 내용 저장
-        return lectureRepository.save(Lecture.fromUploadedVideo(registerRequest, mediaHash,thumbnailBytes));
-
+    public Optional<Lecture> findExistingLecture(String mediaHash) {
+        return lectureRepository.findByHash(mediaHash);
     }
 
     /**
-     * 미디어 파일(비디오/오디오)을 SHA-256 해시 알고리즘으로 해싱하여 고유 문자열을 생성한다.
+     * FastAPI 서버에 파일을 전송하여 요약 정보를 받은 후, 저장되지 않은 Lecture 객체로 변환한다.
+     * 외부 호출이 길어질 수 있으므로 트랜잭션 밖에서 호출해야 하며, 저장은 호출한 쪽에서 처리한다.
      *
-     * @param file 해싱할 미디어 파일
-     * @return Base64로 인코딩된 해시 문자열
-     * @throws RuntimeException 파일 읽기 실패 또는 해시 처리 실패 시
+     * @param file      사용자가 업로드한 비디오 파일
+     * @param mediaHash 미디어 파일 해시
+     * @return 저장 전 lecture 객체
      */
-    private String generateMediaHash(MultipartFile file) {
-        // 비디오 해싱
-        try (InputStream inputStream = file.getInputStream()) {
-            // SHA-256 해시 알고리즘 계산기 객체 생성
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-
-            // 8KB씩 파일을 읽기 위한 버퍼 생성
-            byte[] buffer = new byte[8192];
-
-            int bytesRead;
-            while ((bytesRead = inputStream.read(buffer)) != -1) { // 파일 끝이면 InputStream.read()는 파일 끝이 끝이면 -1 을 반환
-                // 읽은 데이터를 해시 계산에 누적
-                digest.update(buffer, 0, bytesRead);
-            }
+    public Lecture summarize(MultipartFile file, String mediaHash) {
+        // FastAPI 호출
+        LectureSummaryResponse registerRequest = lectureSummaryFromFilePort.requestSummary(file);
 
-            // 전체 파일을 읽은 뒤 최종 해시 계산
-            byte[] hashBytes = digest.digest();
+        // 썸네일 이미지는 썸네일 저장소에 저장되며, 프론트에는 조회 URL만 전달됨
+        // 썸네일 Base64 디코딩 // 음성 파일의 경우 썸네일 없음
+        byte[] thumbnailBytes = ThumbnailUtil.decodeBase64ThumbnailSafe(registerRequest.getThumbnail());
+        String thumbnailKey = thumbnailService.store(thumbnailBytes);
 
-            // 이진 데이터-> 문자열 형태의 해시값으로 리턴
-            return Base64.getEncoder().encodeToString(hashBytes);
-        } catch (IOException | NoSuchAlgorithmException e) {
-            throw new RuntimeException("미디어 해싱 실패", e);
-        }
+        return Lecture.fromUploadedVideo(registerRequest, mediaHash, thumbnailKey);
     }
 
     /**
      * 사용자가 업로드한 파일이 기대하는 파일형식과 동일한지 검사한다.
+     * 비동기 작업 등록 전에 호출되어 잘못된 파일은 요청 스레드에서 바로 거절한다.
      *
      * @param file
      */
-    private void validateMediaFile(MultipartFile file) {
+    public void validateMediaFile(MultipartFile file) {
         // 파일 확장자는 사용자가 쉽게 변경할 수 있으므로 신뢰할 수 없음
         // MIME 타입(Content-Type)을 기반으로 파일 형식을 검증함
         if (file == null || file.isEmpty()) {
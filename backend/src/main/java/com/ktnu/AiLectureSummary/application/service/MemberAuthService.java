@@ -1,6 +1,5 @@
 package com.ktnu.AiLectureSummary.application.service;
 
-import com.ktnu.AiLectureSummary.global.config.JwtProperties;
 import com.ktnu.AiLectureSummary.domain.Member;
 import com.ktnu.AiLectureSummary.domain.Role;
 import com.ktnu.AiLectureSummary.application.dto.member.request.MemberLoginRequest;
@@ -8,18 +7,24 @@ import com.ktnu.AiLectureSummary.application.dto.member.request.MemberRegisterRe
 import com.ktnu.AiLectureSummary.application.dto.member.response.MemberLoginResponse;
 import com.ktnu.AiLectureSummary.global.exception.*;
 import com.ktnu.AiLectureSummary.repository.MemberRepository;
+import com.ktnu.AiLectureSummary.global.security.AccessTokenBlacklist;
 import com.ktnu.AiLectureSummary.global.security.JwtProvider;
+import com.ktnu.AiLectureSummary.global.security.RefreshTokenStore;
+import com.ktnu.AiLectureSummary.global.redis.RedisPipeline;
 import com.ktnu.AiLectureSummary.util.CookieUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Optional;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberAuthService {
@@ -27,8 +32,9 @@ public class MemberAuthService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
-    private final StringRedisTemplate stringRedisTemplate;
-    private final JwtProperties jwtProperties;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenBlacklist accessTokenBlacklist;
+    private final RedisPipeline redisPipeline;
 
     /**
      * 사용자가 입력한 정보로 회원가입 시도합니다.
@@ -88,13 +94,18 @@ public class MemberAuthService {
             throw new InvalidPasswordException("비밀번호가 일치하지 않습니다.");
         }
 
+        // 저장된 해시가 현재 설정(알고리즘, cost)보다 약하면 평문을 알고 있는 지금 다시 해싱
+        if (passwordEncoder.upgradeEncoding(member.getPassword())) {
+            member.changePassword(passwordEncoder.encode(password));
+            memberRepository.save(member);
+        }
+
         // JWT 생성
         String accessToken = jwtProvider.generateAccessToken(member.getId());
         String refreshToken = jwtProvider.generateRefreshToken(member.getId());
 
-        // redis 저장 (refreshToken)
-        stringRedisTemplate.opsForValue()
-                .set("refresh:" + refreshToken, String.valueOf(member.getId()), Duration.ofMillis(jwtProperties.getRefreshExpiration()));
+        // redis 저장 (refreshToken 원문 대신 jti를 키로 사용 + 회원별 세션 목록에 추가)
+        refreshTokenStore.save(member.getId(), jwtProvider.getTokenId(refreshToken));
 
 
         return new MemberLoginResponse(accessToken,refreshToken);
@@ -103,24 +114,41 @@ public class MemberAuthService {
 
     /**
      * refreshToken을 이용한 AccessToken 재발급
-     * 현재는 refreshToken을 만료전까지 재사용하는 방식, 보안 더 강화 필요시 rotate 방식으로 새로운 refresh token으로 재발급 하기도함
+     * 사용한 refreshToken은 폐기하고 새로운 refreshToken을 함께 발급합니다. (rotate 방식)
+     * 이미 교체된 refreshToken이 다시 사용되면 탈취로 보고 회원의 모든 세션을 폐기합니다.
      *
      * @param request
-     * @return
+     * @return 새로 발급한 accessToken, refreshToken (다른 탭의 동시 요청이면 refreshToken은 null)
      */
-    public String reissueAccessToken(HttpServletRequest request) {
+    public MemberLoginResponse reissueAccessToken(HttpServletRequest request) {
         // refresh token 꺼내기
         String refreshToken = CookieUtil.getCookieValue(request, "refresh_token")
                 .orElseThrow(() -> new InvalidTokenException("Refresh Token이 존재하지 않습니다."));
 
-        // redis에서 유효한 refreshToken인지 검사
-        String userId = stringRedisTemplate.opsForValue().get("refresh:" + refreshToken);
-        if (userId==null) {
-            throw new InvalidTokenException("유효하지 않은 Refresh Token입니다.");
+        // 서명 검증 후 (검증되지 않은 jti로 조회하지 않도록) redis에서 유효한 refreshToken인지 검사
+        Claims claims = jwtProvider.parseRefreshToken(refreshToken)
+                .orElseThrow(() -> new InvalidTokenException("유효하지 않은 Refresh Token입니다."));
+        Long userId = Long.parseLong(claims.getSubject());
+        String tokenId = jwtProvider.getTokenId(claims, refreshToken);
+
+        // 새로운 refreshToken 발급 후 세션 교체 (조회/교체/재사용 감지를 한 번에 처리)
+        String newRefreshToken = jwtProvider.generateRefreshToken(userId);
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate(userId, tokenId, jwtProvider.getTokenId(newRefreshToken));
+
+        switch (result) {
+            case ROTATED -> {
+                return new MemberLoginResponse(jwtProvider.generateAccessToken(userId), newRefreshToken);
+            }
+            case CONCURRENT -> {
+                // 먼저 처리된 요청이 새 refreshToken 쿠키를 받았으므로 accessToken만 재발급
+                return new MemberLoginResponse(jwtProvider.generateAccessToken(userId), null);
+            }
+            case REUSED -> {
+                log.warn("Refresh Token 재사용 감지, 모든 세션 폐기: memberId={}", userId);
+                throw new InvalidTokenException("이미 사용된 Refresh Token입니다. 다시 로그인해 주세요.");
+            }
+            default -> throw new InvalidTokenException("유효하지 않은 Refresh Token입니다.");
         }
-
-        // 새로운 accesstoken 반환
-        return jwtProvider.generateAccessToken(Long.parseLong(userId));
     }
 
 
@@ -133,16 +161,27 @@ public class MemberAuthService {
         String accessToken = CookieUtil.getCookieValue(request, "access_token")
                 .orElseThrow(() -> new InvalidTokenException("Access Token이 존재하지 않습니다."));
 
-        // access_token 만료시간 계산
-        long expiration = jwtProvider.getExpiration(accessToken);
-
-        // 블랙리스트 등록
-        stringRedisTemplate.opsForValue()
-                .set("blacklist:" + accessToken, "logout", Duration.ofMillis(expiration));
-
-        // refreshToken도 쿠키에서 꺼내서 redis에서 삭제
-        CookieUtil.getCookieValue(request,"refresh_token").ifPresent(refreshToken->{
-            stringRedisTemplate.delete("refresh:" + refreshToken);
+        // access_token은 한 번만 파싱하고, 만료시간과 토큰 식별자는 검증된 Claims에서 꺼냄
+        Claims accessClaims = jwtProvider.parseAccessToken(accessToken)
+                .orElseThrow(() -> new InvalidTokenException("유효하지 않은 Access Token입니다."));
+        long expiration = accessClaims.getExpiration().getTime() - System.currentTimeMillis();
+        String accessTokenId = jwtProvider.getTokenId(accessClaims, accessToken);
+
+        // refreshToken도 쿠키에서 꺼내기 (만료된 refreshToken은 redis에서도 이미 만료됨)
+        String refreshToken = CookieUtil.getCookieValue(request, "refresh_token").orElse(null);
+        Optional<Claims> refreshClaims = refreshToken == null ? Optional.empty() : jwtProvider.parseRefreshToken(refreshToken);
+
+        // 이 서버의 로컬 블랙리스트는 Redis 상태와 관계없이 먼저 등록
+        long accessTokenExpiresAt = accessTokenBlacklist.revokeLocally(accessTokenId, Duration.ofMillis(expiration));
+
+        // 블랙리스트 등록(+ 다른 서버 로컬 캐시에 전파)과 refreshToken 삭제를 한 번의 왕복으로 처리
+        // Redis 장애 시(logout, 기본 fail-open) 쿠키 삭제와 이 서버의 로컬 블랙리스트만으로 로그아웃 처리
+        redisPipeline.execute("logout", redis -> {
+            if (accessTokenExpiresAt > 0) {
+                accessTokenBlacklist.revoke(redis, accessTokenId, accessTokenExpiresAt);
+            }
+            refreshClaims.ifPresent(claims ->
+                    refreshTokenStore.revoke(redis, Long.parseLong(claims.getSubject()), jwtProvider.getTokenId(claims, refreshToken)));
         });
 
     }
@@ -12,12 +12,25 @@ import com.ktnu.AiLectureSummary.domain.MemberLecture;
 import com.ktnu.AiLectureSummary.application.dto.memberLecture.response.LectureDetailResponse;
 import com.ktnu.AiLectureSummary.global.exception.LectureNotFoundException;
 import com.ktnu.AiLectureSummary.repository.MemberLectureRepository;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureListItemView;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureStatsView;
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.request.DashboardSort;
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.response.MemberLecturePageResponse;
+import com.ktnu.AiLectureSummary.global.exception.InvalidCursorException;
+import com.ktnu.AiLectureSummary.infrastructure.pdf.PdfArtifactCache;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +38,12 @@ public class MemberLectureService {
     private final MemberLectureRepository memberLectureRepository;
     private final MemberRepository memberRepository;
     private final LectureRepository lectureRepository;
+    private final ThumbnailService thumbnailService;
+    private final PdfArtifactCache pdfArtifactCache;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_DELIMITER = "|";
+    private static final LocalDateTime FIRST_PAGE_ENROLLED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59); // MySQL DATETIME 최대값
 
     /**
      * 사용자와 강의 간의 소유 관계를 저장합니다.
@@ -45,6 +64,22 @@ public class MemberLectureService {
 
     }
 
+    /**
+     * 강의를 저장하고 사용자와의 소유 관계를 하나의 짧은 트랜잭션으로 저장합니다.
+     * 이미 저장된 강의(id 존재)는 다시 저장하지 않고 연결만 합니다.
+     * FastAPI 호출이 끝난 뒤 호출되므로 외부 호출 동안 DB 커넥션을 점유하지 않습니다.
+     *
+     * @param memberId 사용자 ID
+     * @param lecture  저장할(또는 이미 저장된) 강의
+     * @return 저장된 강의
+     */
+    @Transactional
+    public Lecture registerLecture(Long memberId, Lecture lecture) {
+        Lecture savedLecture = lecture.getId() == null ? lectureRepository.save(lecture) : lecture;
+        save(memberId, savedLecture);
+        return savedLecture;
+    }
+
     /**
      * 사용자가 등록한 모든 강의 목록을 조회합니다.
      * 내부적으로 MemberLecture를 통해 강의 리스트를 추출하고
@@ -55,25 +90,111 @@ public class MemberLectureService {
      */
     public MemberLectureListResponse getUserLectureList(CustomUserDetails user) {
 
-        List<MemberLecture> memberLectures = memberLectureRepository.findAllByMember_Id(user.getId());
-        Long totalDuration = calculateTotalDuration(memberLectures); // 하나도 없는 경우 0?
-        return MemberLectureListResponse.from(memberLectures, totalDuration);
+        // 목록에 필요한 컬럼만 조회 (강의 원문/요약은 읽지 않음)
+        List<MemberLectureListItemView> views = memberLectureRepository.findListItemsByMemberId(user.getId());
+        Long totalDuration = calculateTotalDuration(views); // 하나도 없는 경우 0?
+        return MemberLectureListResponse.from(views, totalDuration);
     }
 
     /**
      * 사용자가 등록한 모든 강의 시간의 총 합
      *
-     * @param memberLectures
+     * @param views
      * @return Long
      */
-    private static long calculateTotalDuration(List<MemberLecture> memberLectures) {
+    private static long calculateTotalDuration(List<MemberLectureListItemView> views) {
 
-        return memberLectures.stream()
-                .map(memberLecture -> memberLecture.getLecture().getDuration())
+        return views.stream()
+                .map(MemberLectureListItemView::getDuration)
                 .mapToLong(Long::longValue)
                 .sum(); // sum의 기본 리턴값은 0, list가 비어있어도 0을 반환
     }
 
+    /**
+     * 사용자가 등록한 강의 목록을 커서 기반(keyset)으로 한 페이지씩 조회합니다.
+     * OFFSET 없이 (정렬 값, id) 커서 이후의 size개만 조회하므로 강의 수와 관계없이 페이지 크기만큼만 읽습니다.
+     * 첫 페이지에서만 강의 수와 총 영상 길이를 SQL 집계로 함께 반환합니다.
+     *
+     * @param user   현재 로그인한 사용자 정보
+     * @param sort   정렬 기준
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (1 ~ 100)
+     * @return MemberLecturePageResponse (강의 목록, 다음 커서, 첫 페이지의 집계 값)
+     */
+    public MemberLecturePageResponse getUserLecturePage(CustomUserDetails user, DashboardSort sort, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String[] cursorValues = decodeCursor(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<MemberLectureListItemView> views = findPage(user.getId(), sort, cursorValues, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = views.size() > pageSize;
+        List<MemberLectureListItemView> pageItems = hasNext ? views.subList(0, pageSize) : views;
+        String nextCursor = hasNext ? encodeCursor(sort, pageItems.get(pageSize - 1)) : null;
+
+        // 집계는 첫 페이지에서만 조회
+        MemberLectureStatsView stats = cursor == null ? memberLectureRepository.findStatsByMemberId(user.getId()) : null;
+
+        return MemberLecturePageResponse.of(pageItems, nextCursor, stats);
+    }
+
+    /**
+     * 정렬 기준별 keyset 쿼리를 호출합니다.
+     * 첫 페이지는 모든 행보다 앞서는 값(가장 늦은 시각, 빈 제목, 가장 큰 값)을 커서로 사용하여 같은 쿼리로 조회합니다.
+     */
+    private List<MemberLectureListItemView> findPage(Long memberId, DashboardSort sort, String[] cursorValues, Pageable pageable) {
+        try {
+            return switch (sort) {
+                case ENROLLED_AT -> memberLectureRepository.findPageOrderByEnrolledAt(memberId,
+                        cursorValues == null ? FIRST_PAGE_ENROLLED_AT : LocalDateTime.parse(cursorValues[1]),
+                        cursorValues == null ? Long.MAX_VALUE : Long.parseLong(cursorValues[0]),
+                        pageable);
+                case CUSTOM_TITLE -> memberLectureRepository.findPageOrderByCustomTitle(memberId,
+                        cursorValues == null ? "" : cursorValues[1],
+                        cursorValues == null ? 0L : Long.parseLong(cursorValues[0]),
+                        pageable);
+                case DURATION -> memberLectureRepository.findPageOrderByDuration(memberId,
+                        cursorValues == null ? Long.MAX_VALUE : Long.parseLong(cursorValues[1]),
+                        cursorValues == null ? Long.MAX_VALUE : Long.parseLong(cursorValues[0]),
+                        pageable);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidCursorException("잘못된 페이지 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 페이지 마지막 항목의 (id, 정렬 값)을 URL에 안전한 Base64 문자열로 인코딩합니다.
+     */
+    private static String encodeCursor(DashboardSort sort, MemberLectureListItemView last) {
+        String sortValue = switch (sort) {
+            case ENROLLED_AT -> last.getEnrolledAt().toString();
+            case CUSTOM_TITLE -> last.getCustomTitle();
+            case DURATION -> String.valueOf(last.getDuration());
+        };
+        String raw = last.getId() + CURSOR_DELIMITER + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 [id, 정렬 값]으로 해석합니다. 커서가 없으면 null을 반환합니다.
+     */
+    private static String[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split(Pattern.quote(CURSOR_DELIMITER), 2); // 제목에 구분자가 있어도 id 뒤 전체를 정렬 값으로 사용
+            if (values.length != 2) {
+                throw new InvalidCursorException("잘못된 페이지 커서입니다.");
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("잘못된 페이지 커서입니다.", e);
+        }
+    }
+
     /**
      * 강의 상세 요약 정보를 가져옵니다.
      * member.id, lectureId로  사용자가 등록한 강의가 맞나 확인 하고 강의 상세 요약 정보를 반환합니다.
@@ -185,9 +306,11 @@ public class MemberLectureService {
 
         // 강의와 사용자의 연관 관계 제거
         memberLectureRepository.delete(memberLecture);
+        pdfArtifactCache.evict(memberLecture.getId()); // 커밋 후 캐시된 PDF 삭제
 
         // 더 이상 어떤 회원에게도 해당 강의가 등록되어 있지 않으면 강의 자체를 삭제합니다.
         if (!memberLectureRepository.existsByLecture(lecture)) {
+            thumbnailService.deleteIfUnused(lecture); // 커밋 후 썸네일 저장소에서도 삭제
             lectureRepository.delete(lecture);
         }
     }
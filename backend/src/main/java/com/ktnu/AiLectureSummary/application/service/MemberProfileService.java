@@ -9,6 +9,7 @@ import com.ktnu.AiLectureSummary.global.exception.NoProfileChangesException;
 import com.ktnu.AiLectureSummary.repository.MemberRepository;
 import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
 import com.ktnu.AiLectureSummary.global.security.JwtProvider;
+import com.ktnu.AiLectureSummary.global.security.PrincipalCache;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,6 +22,7 @@ public class MemberProfileService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
+    private final PrincipalCache principalCache;
 
     /**
      * 사용자 정보를 수정합니다. (수정 가능한 정보: 이름, 비밀번호)
@@ -65,6 +67,9 @@ public class MemberProfileService {
             token = jwtProvider.generateAccessToken(member.getId());
         }
 
+        // 인증 정보 캐시 무효화 (커밋 후)
+        principalCache.evict(member.getId());
+
         return MemberEditResponse.builder()
                 .username(member.getUsername())
                 .email(member.getEmail())
@@ -78,5 +83,8 @@ public class MemberProfileService {
                 .orElseThrow(() -> new MemberNotFoundException("존재 하지 않는 회원입니다."));
         // 회원 탈퇴
         member.deactivate();
+
+        // 탈퇴한 회원의 인증 정보가 캐시에 남지 않도록 무효화
+        principalCache.evict(member.getId());
     }
 }
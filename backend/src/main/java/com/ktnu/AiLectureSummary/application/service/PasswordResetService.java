@@ -7,6 +7,9 @@ import com.ktnu.AiLectureSummary.application.dto.member.response.MemberPasswordR
 import com.ktnu.AiLectureSummary.global.exception.AccountInactiveException;
 import com.ktnu.AiLectureSummary.global.exception.InvalidTokenException;
 import com.ktnu.AiLectureSummary.global.exception.MemberNotFoundException;
+import com.ktnu.AiLectureSummary.global.redis.RedisCircuitBreaker;
+import com.ktnu.AiLectureSummary.global.security.PrincipalCache;
+import com.ktnu.AiLectureSummary.global.security.RefreshTokenStore;
 import com.ktnu.AiLectureSummary.repository.MemberRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,9 @@ public class PasswordResetService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final StringRedisTemplate stringRedisTemplate;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RedisCircuitBreaker redisCircuitBreaker; // password-reset: fail-closed (503)
 
 
 
@@ -49,7 +55,7 @@ public class PasswordResetService {
         // 이름과 이메일이 일치하는 사용자가 존재함을 확인했으므로, 임시 토큰을 발급 (실제 서비스의 경우 이메일로 토큰 전송)
         String token = UUID.randomUUID().toString(); // 유니버설 고유 식별자 생성 // TODO 예측이 가능한 구조 SecureRandom로 리팩터링
         // redis에 토큰 저장 // key: "reset: token..." value: email, TTL: 15min // TODO 이메일 대신 ID가 더 안전 (정보 노출 위험 적음)
-        stringRedisTemplate.opsForValue().set("reset:" + token, email, Duration.ofMinutes(15));
+        redisCircuitBreaker.run("password-reset", () -> stringRedisTemplate.opsForValue().set("reset:" + token, email, Duration.ofMinutes(15)));
 
         // 비밀번호 재설정용 임시 토큰 발급 // TODO 이메일 인증 방식으로 구현하여 토큰 노출 개선
         MemberPasswordResetTokenResponse response = new MemberPasswordResetTokenResponse(token);
@@ -66,7 +72,7 @@ public class PasswordResetService {
     public void resetPassword(String token, MemberResetPasswordRequest request) {
         // redis에서 이메일 조회
         String key = "reset:" + token;
-        String email = stringRedisTemplate.opsForValue().get(key);
+        String email = redisCircuitBreaker.execute("password-reset", () -> stringRedisTemplate.opsForValue().get(key), null);
 
         // 토큰 유효성 확인
         if (email == null) {
@@ -80,8 +86,10 @@ public class PasswordResetService {
         // 새 비밀번호로 변경
         String encodedPassword = passwordEncoder.encode(request.getNewPassword());
         member.changePassword(encodedPassword);
+        principalCache.evict(member.getId()); // 인증 정보 캐시 무효화 (커밋 후)
+        refreshTokenStore.revokeAllSessions(member.getId()); // 기존 비밀번호로 로그인한 세션 모두 폐기
 
         // 토큰 삭제 (1회성 사용)
-        stringRedisTemplate.delete(key);
+        redisCircuitBreaker.run("password-reset", () -> stringRedisTemplate.delete(key));
     }
 }
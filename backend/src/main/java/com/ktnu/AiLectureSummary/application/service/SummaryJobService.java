@@ -0,0 +1,66 @@
+package com.ktnu.AiLectureSummary.application.service;
+
+import com.ktnu.AiLectureSummary.application.dto.lecture.response.SummaryJobResponse;
+import com.ktnu.AiLectureSummary.domain.SummaryJob;
+import com.ktnu.AiLectureSummary.domain.SummaryJobType;
+import com.ktnu.AiLectureSummary.global.exception.SummaryJobNotFoundException;
+import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
+import com.ktnu.AiLectureSummary.repository.SummaryJobRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 요약 작업(SummaryJob)의 생성과 상태 변경을 담당합니다.
+ * 각 메서드는 짧은 트랜잭션으로 끝나며, 요약 작업 스레드에서 상태를 갱신할 때 사용됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SummaryJobService {
+    private final SummaryJobRepository summaryJobRepository;
+
+    /**
+     * QUEUED 상태의 작업을 생성합니다.
+     *
+     * @param memberId 작업을 요청한 회원 ID
+     * @param type     작업 종류
+     * @return 저장된 작업
+     */
+    @Transactional
+    public SummaryJob create(Long memberId, SummaryJobType type) {
+        return summaryJobRepository.save(SummaryJob.queued(memberId, type));
+    }
+
+    @Transactional
+    public void start(Long jobId) {
+        findJob(jobId).start();
+    }
+
+    @Transactional
+    public void complete(Long jobId, Long lectureId) {
+        findJob(jobId).complete(lectureId);
+    }
+
+    @Transactional
+    public void fail(Long jobId, String errorMessage) {
+        findJob(jobId).fail(errorMessage);
+    }
+
+    /**
+     * 로그인한 사용자가 요청한 작업의 현재 상태를 조회합니다.
+     *
+     * @param user  현재 로그인한 사용자 정보
+     * @param jobId 작업 ID
+     * @return 작업 상태 응답 DTO
+     */
+    public SummaryJobResponse getJob(CustomUserDetails user, Long jobId) {
+        SummaryJob job = summaryJobRepository.findByIdAndMemberId(jobId, user.getId())
+                .orElseThrow(() -> new SummaryJobNotFoundException("해당 요약 작업을 찾을 수 없습니다."));
+        return SummaryJobResponse.from(job);
+    }
+
+    private SummaryJob findJob(Long jobId) {
+        return summaryJobRepository.findById(jobId)
+                .orElseThrow(() -> new SummaryJobNotFoundException("해당 요약 작업을 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,112 @@
+package com.ktnu.AiLectureSummary.application.service;
+
+import com.ktnu.AiLectureSummary.application.port.out.ThumbnailStore;
+import com.ktnu.AiLectureSummary.domain.Lecture;
+import com.ktnu.AiLectureSummary.global.exception.LectureNotFoundException;
+import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
+import com.ktnu.AiLectureSummary.repository.LectureRepository;
+import com.ktnu.AiLectureSummary.repository.MemberLectureRepository;
+import com.ktnu.AiLectureSummary.util.ThumbnailUtil;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 강의 썸네일을 lecture 행이 아닌 별도 저장소(ThumbnailStore)에 저장하고 조회합니다.
+ * 응답 JSON에는 이미지 대신 URL만 담고, 이미지는 /api/thumbnails/{lectureId}에서 캐시 가능한 형태로 내려줍니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ThumbnailService {
+    private final ThumbnailStore thumbnailStore;
+    private final LectureRepository lectureRepository;
+    private final MemberLectureRepository memberLectureRepository;
+
+    /**
+     * 썸네일 이미지를 저장소에 저장하고 키를 반환합니다.
+     *
+     * @param image 썸네일 이미지 (음성 파일처럼 썸네일이 없으면 null)
+     * @return 썸네일 키 (이미지가 없으면 null)
+     */
+    public String store(byte[] image) {
+        if (image == null || image.length == 0) {
+            return null;
+        }
+        String thumbnailKey = ThumbnailUtil.thumbnailKey(image);
+        thumbnailStore.save(thumbnailKey, image);
+        return thumbnailKey;
+    }
+
+    /**
+     * 사용자가 등록한 강의의 썸네일 키를 조회합니다. 이미지를 읽기 전에 ETag 비교에 사용합니다.
+     *
+     * @param user      현재 로그인한 사용자 정보
+     * @param lectureId 강의 ID
+     * @return 썸네일 키
+     * @throws LectureNotFoundException 등록하지 않은 강의이거나 썸네일이 없는 경우
+     */
+    public String getThumbnailKey(CustomUserDetails user, Long lectureId) {
+        return memberLectureRepository.findThumbnailKey(user.getId(), lectureId)
+                .orElseThrow(() -> new LectureNotFoundException("썸네일을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 저장소에서 썸네일 이미지를 읽습니다.
+     *
+     * @param thumbnailKey 썸네일 키
+     * @return 썸네일 이미지
+     * @throws LectureNotFoundException 저장소에 이미지가 없는 경우
+     */
+    public byte[] loadThumbnail(String thumbnailKey) {
+        return thumbnailStore.load(thumbnailKey)
+                .orElseThrow(() -> new LectureNotFoundException("썸네일을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 강의를 삭제할 때 호출합니다. 같은 썸네일을 쓰는 다른 강의가 없으면 저장소에서도 삭제합니다.
+     * 트랜잭션이 롤백되면 이미지가 남아 있어야 하므로 커밋 이후에 삭제합니다.
+     *
+     * @param lecture 삭제할 강의
+     */
+    public void deleteIfUnused(Lecture lecture) {
+        String thumbnailKey = lecture.getThumbnailKey();
+        if (thumbnailKey == null || lectureRepository.countByThumbnailKey(thumbnailKey) > 1) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            thumbnailStore.delete(thumbnailKey);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                thumbnailStore.delete(thumbnailKey);
+            }
+        });
+    }
+
+    /**
+     * lecture.thumbnail 컬럼에 썸네일이 남아 있는 강의 ID를 조회합니다.
+     *
+     * @param batchSize 조회할 최대 개수
+     * @return 저장소로 옮길 강의 ID 목록
+     */
+    public List<Long> findLegacyThumbnailLectureIds(int batchSize) {
+        return lectureRepository.findIdsWithLegacyThumbnail(PageRequest.of(0, batchSize));
+    }
+
+    /**
+     * 강의 하나의 기존 썸네일을 저장소에 옮기고 lecture.thumbnail 컬럼을 비웁니다.
+     */
+    @Transactional
+    public void migrateLegacyThumbnail(Long lectureId) {
+        lectureRepository.findById(lectureId).ifPresent(lecture ->
+                lecture.moveThumbnailToStore(store(lecture.getThumbnail())));
+    }
+}
@@ -16,22 +16,29 @@ public class YoutubeLectureService {
     private final YoutubeSummaryPort youtubeSummaryPort;
 
 
-    public Lecture processYoutubeLecture(String url) {
-
-        // DB에 중복되는 링크가 존재하는지 확인
-        Optional<Lecture> optionalLecture = lectureRepository.findByYoutubeUrl(url);
-
-        // 이미 존재하는 경우 바로 바로 반환
-        if (optionalLecture.isPresent()) {
-            return optionalLecture.get();
-        }
+    /**
+     * 같은 링크로 요약된 강의가 이미 저장되어 있는지 조회합니다.
+     *
+     * @param url YouTube 링크
+     * @return 저장된 강의 (없으면 empty)
+     */
+    public Optional<Lecture> findExistingLecture(String url) {
+        return lectureRepository.findByYoutubeUrl(url);
+    }
 
+    /**
+     * FastAPI에 요약을 요청하고 저장되지 않은 Lecture 객체로 변환합니다.
+     * 외부 호출이 길어질 수 있으므로 트랜잭션 밖에서 호출해야 하며, 저장은 호출한 쪽에서 처리합니다.
+     *
+     * @param url YouTube 링크
+     * @return 저장 전 lecture 객체
+     */
+    public Lecture summarize(String url) {
         // FastAPI 호출
         LectureSummaryResponse registerRequest = youtubeSummaryPort.requestSummary(url);
 
         // 썸네일 저장 X
-        return lectureRepository.save(Lecture.fromYoutubeUrl(registerRequest, url));
-
+        return Lecture.fromYoutubeUrl(registerRequest, url);
     }
 
 }
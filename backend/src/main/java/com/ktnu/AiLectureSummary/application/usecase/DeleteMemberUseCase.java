@@ -2,6 +2,7 @@ package com.ktnu.AiLectureSummary.application.usecase;
 
 import com.ktnu.AiLectureSummary.application.service.MemberLectureService;
 import com.ktnu.AiLectureSummary.application.service.MemberProfileService;
+import com.ktnu.AiLectureSummary.global.security.RefreshTokenStore;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Service;
  * <p>
  * 사용자와 강의들의 연관 관계를 모두 제거합니다.
  * 사용자의 계정을 비활성화합니다.
+ * 사용자의 모든 로그인 세션(refreshToken)을 폐기합니다.
  * <p>
  * 내부적으로 MemberLectureService MemberProfileService 조합하여
  * 유스케이스 단위 로직을 처리합니다.
@@ -24,6 +26,7 @@ public class DeleteMemberUseCase {
 
     private final MemberLectureService memberLectureService;
     private final MemberProfileService memberProfileService;
+    private final RefreshTokenStore refreshTokenStore;
 
 
     public void deleteMember(Long memberId) {
@@ -33,5 +36,8 @@ public class DeleteMemberUseCase {
         // 회원 비활성화 처리
         memberProfileService.deactivate(memberId);
 
+        // 모든 세션 폐기
+        refreshTokenStore.revokeAllSessions(memberId);
+
     }
 }
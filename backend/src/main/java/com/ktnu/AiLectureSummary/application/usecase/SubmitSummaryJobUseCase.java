@@ -0,0 +1,119 @@
+package com.ktnu.AiLectureSummary.application.usecase;
+
+import com.ktnu.AiLectureSummary.application.dto.lecture.response.LectureUploadResponse;
+import com.ktnu.AiLectureSummary.application.dto.lecture.response.SummaryJobResponse;
+import com.ktnu.AiLectureSummary.application.service.LectureService;
+import com.ktnu.AiLectureSummary.application.service.SummaryJobService;
+import com.ktnu.AiLectureSummary.domain.SummaryJob;
+import com.ktnu.AiLectureSummary.domain.SummaryJobType;
+import com.ktnu.AiLectureSummary.global.exception.SummaryJobRejectedException;
+import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
+import com.ktnu.AiLectureSummary.util.SpooledMultipartFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.function.Supplier;
+
+
+/**
+ * 강의 요약 요청을 비동기 작업으로 등록하는 애플리케이션 서비스
+ * <p>
+ * 요청 스레드에서는 입력 검증과 작업 등록만 수행하고 바로 반환합니다.
+ * 실제 요약(FastAPI 호출 -> 저장)은 summaryJobExecutor 스레드에서 UploadLectureUseCase로 처리하며,
+ * 클라이언트는 작업 ID로 진행 상태를 조회합니다.
+ *
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubmitSummaryJobUseCase {
+    private final UploadLectureUseCase uploadLectureUseCase;
+    private final LectureService lectureService;
+    private final SummaryJobService summaryJobService;
+    private final ThreadPoolTaskExecutor summaryJobExecutor;
+
+    /**
+     * 업로드된 강의 파일의 요약 작업을 등록합니다.
+     * 요청이 끝나면 multipart 임시 파일이 삭제되므로 작업용 임시 파일로 복사한 뒤 등록합니다.
+     * 복사하는 동안 해시도 함께 계산되어 작업 스레드에서는 바로 중복 여부를 판단합니다.
+     *
+     * @param user 현재 로그인한 사용자 정보
+     * @param file 업로드된 강의 파일
+     * @return 등록된 작업 정보 (QUEUED)
+     */
+    public SummaryJobResponse submitLecture(CustomUserDetails user, MultipartFile file) {
+        // 잘못된 파일은 작업 등록 전에 바로 400으로 응답
+        lectureService.validateMediaFile(file);
+
+        SpooledMultipartFile spooledFile = SpooledMultipartFile.spool(file);
+        SummaryJob job;
+        try {
+            job = summaryJobService.create(user.getId(), SummaryJobType.MEDIA_FILE);
+        } catch (RuntimeException e) {
+            spooledFile.delete(); // 작업이 등록되지 않으면 임시 파일을 지울 작업 스레드가 없음
+            throw e;
+        }
+
+        submit(job.getId(), () -> uploadLectureUseCase.uploadLecture(user, spooledFile), spooledFile::delete);
+        return SummaryJobResponse.from(job);
+    }
+
+    /**
+     * YouTube 링크의 요약 작업을 등록합니다.
+     *
+     * @param user 현재 로그인한 사용자 정보
+     * @param url  업로드된 YouTube 링크
+     * @return 등록된 작업 정보 (QUEUED)
+     */
+    public SummaryJobResponse submitYoutube(CustomUserDetails user, String url) {
+        SummaryJob job = summaryJobService.create(user.getId(), SummaryJobType.YOUTUBE);
+
+        submit(job.getId(), () -> uploadLectureUseCase.uploadLectureByYoutubeUrl(user, url), () -> { });
+        return SummaryJobResponse.from(job);
+    }
+
+    /**
+     * 작업을 스레드 풀에 등록합니다. 대기열이 가득 찬 경우 작업을 실패 처리하고 503으로 응답합니다.
+     */
+    private void submit(Long jobId, Supplier<LectureUploadResponse> task, Runnable cleanup) {
+        try {
+            summaryJobExecutor.execute(() -> run(jobId, task, cleanup));
+        } catch (TaskRejectedException e) {
+            cleanup.run();
+            markFailed(jobId, "요약 대기열이 가득 찼습니다.");
+            throw new SummaryJobRejectedException("요약 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    /**
+     * 작업 스레드에서 실행되는 본문: RUNNING -> (요약 및 저장) -> DONE | FAILED
+     * 실패 상태 저장이 실패해도 임시 파일은 항상 삭제됩니다.
+     */
+    private void run(Long jobId, Supplier<LectureUploadResponse> task, Runnable cleanup) {
+        try {
+            summaryJobService.start(jobId);
+            LectureUploadResponse result = task.get();
+            summaryJobService.complete(jobId, result.getId());
+        } catch (Exception e) {
+            log.error("요약 작업 실패 - jobId: {}", jobId, e);
+            markFailed(jobId, e.getMessage());
+        } finally {
+            cleanup.run();
+        }
+    }
+
+    /**
+     * 작업을 FAILED로 바꿉니다. DB 장애 등으로 저장하지 못하면 로그만 남기고 호출한 쪽의 정리 작업을 계속합니다.
+     */
+    private void markFailed(Long jobId, String errorMessage) {
+        try {
+            summaryJobService.fail(jobId, errorMessage);
+        } catch (RuntimeException e) {
+            log.error("요약 작업 실패 상태 저장 실패 - jobId: {}", jobId, e);
+        }
+    }
+}
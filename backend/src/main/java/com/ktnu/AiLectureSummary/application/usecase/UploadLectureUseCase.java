@@ -6,10 +6,12 @@ import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
 import com.ktnu.AiLectureSummary.application.service.LectureService;
 import com.ktnu.AiLectureSummary.application.service.MemberLectureService;
 import com.ktnu.AiLectureSummary.application.service.YoutubeLectureService;
-import jakarta.transaction.Transactional;
+import com.ktnu.AiLectureSummary.global.concurrency.SingleFlight;
+import com.ktnu.AiLectureSummary.util.SpooledMultipartFile;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -20,34 +22,52 @@ import org.springframework.web.multipart.MultipartFile;
  * <p>
  * 내부적으로 LectureService와 MemberLectureService를 조합하여
  * 유스케이스 단위 로직을 처리합니다.
+ * <p>
+ * FastAPI 호출은 최대 100초까지 걸릴 수 있으므로 이 클래스는 트랜잭션을 갖지 않습니다.
+ * (중복 조회) -> (트랜잭션 없이 외부 호출) -> (짧은 쓰기 트랜잭션으로 저장) 순서로 처리하여
+ * 외부 호출 동안 DB 커넥션을 점유하지 않습니다.
+ * <p>
+ * 같은 영상(해시)/링크에 대한 동시 요청은 SingleFlight로 합쳐 FastAPI를 한 번만 호출하고,
+ * 나머지 요청은 저장된 강의를 공유받아 사용자와의 연결만 저장합니다. (요청마다 연결 저장은 한 번)
  *
  */
 @RequiredArgsConstructor
 @Service
-@Transactional
 public class UploadLectureUseCase {
     private final LectureService lectureService;
     private final MemberLectureService memberLectureService;
     private final YoutubeLectureService youtubeLectureService;
+    private final SingleFlight singleFlight;
 
     /**
-     * 사용자가 강의 파일을 업로드했을 때 처리하는 유스케이스
+     * 사용자가 강의 파일을 업로드했을 때 처리하는 유스케이스 (요약 작업 스레드에서 실행)
      * 파일을 분석하여 Lecture 도메인을 생성하고 저장한 뒤,
      * 해당 사용자와의 연관 관계를 저장합니다.
+     * 파일 검증과 해싱은 작업 등록 시(SubmitSummaryJobUseCase) 끝났으므로 다시 하지 않습니다.
      *
      * @param user 현재 로그인한 사용자 정보
-     * @param file 업로드된 강의 파일
+     * @param file 작업 등록 시 임시 파일로 복사된 강의 파일
      * @return 저장된 강의에 대한 응답 DTO
      */
-    public LectureUploadResponse uploadLecture(CustomUserDetails user, MultipartFile file) {
-        // 1. 강의 처리 (파일 -> 강의 생성 -> 저장)
-        Lecture lecture = lectureService.processLecture(file);
+    public LectureUploadResponse uploadLecture(CustomUserDetails user, SpooledMultipartFile file) {
+        // 1. 임시 파일로 복사하면서 계산한 해시
+        String mediaHash = file.getMediaHash();
 
-        // 2. 사용자와 강의 연결 저장
-        memberLectureService.save(user.getId(), lecture);
+        // 2. 중복되는 강의가 있는지 조회, 없으면 FastAPI 호출(트랜잭션 밖) 후 저장 (짧은 쓰기 트랜잭션)
+        //    같은 파일의 동시 요청은 하나의 실행 결과를 공유
+        //    직접 요약한 요청은 강의 저장과 사용자 연결을 같은 트랜잭션에서 처리
+        AtomicBoolean registered = new AtomicBoolean();
+        Lecture lecture = singleFlight.execute("hash:" + mediaHash, () -> lectureService.findExistingLecture(mediaHash)
+                .orElseGet(() -> {
+                    registered.set(true);
+                    return memberLectureService.registerLecture(user.getId(), lectureService.summarize(file, mediaHash));
+                }));
 
-        // 3. 응답 반환
-        return new LectureUploadResponse(lecture.getId());
+        // 3. 기존 강의이거나 다른 요청의 결과를 공유받은 경우에만 사용자와 강의 연결 저장 (이미 연결된 경우 중복 저장하지 않음)
+        Lecture savedLecture = registered.get() ? lecture : memberLectureService.registerLecture(user.getId(), lecture);
+
+        // 4. 응답 반환
+        return new LectureUploadResponse(savedLecture.getId());
     }
 
     /**
@@ -60,13 +80,20 @@ public class UploadLectureUseCase {
      * @return 저장된 강의에 대한 응답 DTO
      */
     public LectureUploadResponse uploadLectureByYoutubeUrl(CustomUserDetails user, String url) {
-        // 1. YouTube 링크로부터 강의 생성 및 저장
-        Lecture lecture = youtubeLectureService.processYoutubeLecture(url);
+        // 1. 같은 링크로 요약된 강의가 있는지 조회, 없으면 FastAPI 호출(트랜잭션 밖) 후 저장 (짧은 쓰기 트랜잭션)
+        //    같은 링크의 동시 요청은 하나의 실행 결과를 공유
+        //    직접 요약한 요청은 강의 저장과 사용자 연결을 같은 트랜잭션에서 처리
+        AtomicBoolean registered = new AtomicBoolean();
+        Lecture lecture = singleFlight.execute("youtube:" + url, () -> youtubeLectureService.findExistingLecture(url)
+                .orElseGet(() -> {
+                    registered.set(true);
+                    return memberLectureService.registerLecture(user.getId(), youtubeLectureService.summarize(url));
+                }));
 
-        // 2. 사용자와 강의 연결 저장
-        memberLectureService.save(user.getId(), lecture);
+        // 2. 기존 강의이거나 다른 요청의 결과를 공유받은 경우에만 사용자와 강의 연결 저장 (이미 연결된 경우 중복 저장하지 않음)
+        Lecture savedLecture = registered.get() ? lecture : memberLectureService.registerLecture(user.getId(), lecture);
 
         // 3. 응답 반환
-        return new LectureUploadResponse(lecture.getId());
+        return new LectureUploadResponse(savedLecture.getId());
     }
 }
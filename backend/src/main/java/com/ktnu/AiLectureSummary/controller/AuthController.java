@@ -6,6 +6,7 @@ import com.ktnu.AiLectureSummary.application.dto.member.request.MemberLoginReque
 import com.ktnu.AiLectureSummary.application.dto.member.response.MemberLoginResponse;
 import com.ktnu.AiLectureSummary.application.dto.member.request.MemberRegisterRequest;
 import com.ktnu.AiLectureSummary.application.service.MemberAuthService;
+import com.ktnu.AiLectureSummary.global.security.LoginRateLimiter;
 import com.ktnu.AiLectureSummary.util.CookieResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +27,7 @@ public class AuthController {
 
     private final MemberAuthService memberAuthService;
     private final CookieProperties cookieProperties;
+    private final LoginRateLimiter loginRateLimiter;
 
 
     @PostMapping("/register")
@@ -37,7 +39,10 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "로그인", description = "사용자 정보를 입력 받아 로그인 시도 성공시 jwt(accessToken, refreshToken) 반환")
-    public ResponseEntity<ApiResponse<MemberLoginResponse>> login(@Valid @RequestBody MemberLoginRequest request, HttpServletResponse response) { // HttpServletResponse response는 응답 헤더, 쿠키를 직접 조작할수 있게 하기 위해 사용됨
+    public ResponseEntity<ApiResponse<MemberLoginResponse>> login(@Valid @RequestBody MemberLoginRequest request, HttpServletRequest httpRequest, HttpServletResponse response) { // HttpServletResponse response는 응답 헤더, 쿠키를 직접 조작할수 있게 하기 위해 사용됨
+        // 요청 제한 (BCrypt 검증 전에 IP/이메일별로 검사, 초과 시 429)
+        loginRateLimiter.check("login", httpRequest.getRemoteAddr(), request.getEmail());
+
         // 로그인 처리 시도 (memberAuthService에서 인증 처리 + JWT 발급)
         MemberLoginResponse result = memberAuthService.login(request);
 
@@ -83,14 +88,18 @@ public class AuthController {
     @PostMapping("/refresh")
     @Operation(summary = "AccessToken 재발급", description = "로그인 후 사용중 흐름이 끊기지 않도록 refreshToken 사용")
     public ResponseEntity<ApiResponse<Void>> refresh(HttpServletRequest request, HttpServletResponse response) {
-        // refreshtoken 유효성 검사 & accesstoken 재발급
-        String newAccessToken = memberAuthService.reissueAccessToken(request);
-
-        // access_token 쿠키 설정
-        ResponseCookie accessCookie = CookieResponseUtil.buildAccessTokenCookie(newAccessToken, cookieProperties);
+        // refreshtoken 유효성 검사 & accesstoken, refreshtoken 재발급
+        MemberLoginResponse result = memberAuthService.reissueAccessToken(request);
 
-        return ResponseEntity.ok()
-                .header("Set-Cookie", accessCookie.toString())
-                .body(ApiResponse.success("AccessToken 재발급", null));
+        // access_token & refresh_token 쿠키 설정
+        ResponseCookie accessCookie = CookieResponseUtil.buildAccessTokenCookie(result.getAccessToken(), cookieProperties);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .header("Set-Cookie", accessCookie.toString());
+        if (result.getRefreshToken() != null) { // 다른 탭의 동시 요청이면 먼저 받은 refresh_token 쿠키를 유지
+            ResponseCookie refreshCookie = CookieResponseUtil.buildRefreshTokenCookie(result.getRefreshToken(), cookieProperties);
+            builder.header("Set-Cookie", refreshCookie.toString());
+        }
+
+        return builder.body(ApiResponse.success("AccessToken 재발급", null));
     }
 }
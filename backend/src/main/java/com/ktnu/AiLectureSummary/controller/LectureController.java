@@ -2,10 +2,11 @@ package com.ktnu.AiLectureSummary.controller;
 
 
 import com.ktnu.AiLectureSummary.application.dto.ApiResponse;
-import com.ktnu.AiLectureSummary.application.dto.lecture.response.LectureUploadResponse;
 import com.ktnu.AiLectureSummary.application.dto.lecture.request.YoutubeLectureRequest;
+import com.ktnu.AiLectureSummary.application.dto.lecture.response.SummaryJobResponse;
+import com.ktnu.AiLectureSummary.application.service.SummaryJobService;
+import com.ktnu.AiLectureSummary.application.usecase.SubmitSummaryJobUseCase;
 import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
-import com.ktnu.AiLectureSummary.application.usecase.UploadLectureUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
@@ -21,27 +22,45 @@ import org.springframework.web.multipart.MultipartFile;
 @RequestMapping("/api/lectures")
 public class LectureController {
 
-    private final UploadLectureUseCase lectureUploadUsecase;
+    private final SubmitSummaryJobUseCase submitSummaryJobUseCase;
+    private final SummaryJobService summaryJobService;
 
 
     @PostMapping(value = "/mediaFile", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "업로드 영상 요약 생성", description = "업로드 된 영상을 Ai를 사용해 요약합니다.")
-    public ResponseEntity<ApiResponse<LectureUploadResponse>> uploadLecture(
+    @Operation(summary = "업로드 영상 요약 생성", description = "업로드 된 영상의 요약 작업을 등록합니다. 202와 작업 ID를 반환하며, 작업 상태는 /api/lectures/jobs/{jobId}로 조회합니다.")
+    public ResponseEntity<ApiResponse<SummaryJobResponse>> uploadLecture(
             @AuthenticationPrincipal CustomUserDetails user,
             @Parameter(description = "요약할 영상 파일", required = true)
             @RequestPart("file") MultipartFile file) {
-        LectureUploadResponse data = lectureUploadUsecase.uploadLecture(user, file);
-        return ResponseEntity.ok(ApiResponse.success("요약 생성 성공", data));
+        SummaryJobResponse data = submitSummaryJobUseCase.submitLecture(user, file);
+        return ResponseEntity.accepted().body(ApiResponse.success("요약 작업 등록 성공", data));
     }
 
     @PostMapping("/youtube")
-    @Operation(summary = "유트브 영상 요약 생성", description = "유트브 영상을 자막기반으로 Ai를 사용해 요약합니다.")
-    public ResponseEntity<ApiResponse<LectureUploadResponse>> uploadYoutubeLecture(
+    @Operation(summary = "유트브 영상 요약 생성", description = "유트브 영상의 요약 작업을 등록합니다. 202와 작업 ID를 반환하며, 작업 상태는 /api/lectures/jobs/{jobId}로 조회합니다.")
+    public ResponseEntity<ApiResponse<SummaryJobResponse>> uploadYoutubeLecture(
             @AuthenticationPrincipal CustomUserDetails user,
             @Parameter(description = "요약할 영상 youtubeUrl", required = true)
             @Valid @RequestBody YoutubeLectureRequest request) {
         String url = request.getUrl();
-        LectureUploadResponse data = lectureUploadUsecase.uploadLectureByYoutubeUrl(user, url);
-        return ResponseEntity.ok(ApiResponse.success("요약 생성 성공", data));
+        SummaryJobResponse data = submitSummaryJobUseCase.submitYoutube(user, url);
+        return ResponseEntity.accepted().body(ApiResponse.success("요약 작업 등록 성공", data));
     }
-}
\ No newline at end of file
+
+    /**
+     * 요약 작업의 진행 상태를 조회합니다.
+     * 상태가 DONE이면 lectureId로 강의 상세를 조회할 수 있습니다.
+     *
+     * @param user  로그인한 사용자 정보
+     * @param jobId 작업 ID
+     * @return 작업 상태 (QUEUED / RUNNING / DONE / FAILED)
+     */
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "요약 작업 상태 조회", description = "요약 작업의 상태(QUEUED, RUNNING, DONE, FAILED)와 완료된 강의 ID를 반환합니다.")
+    public ResponseEntity<ApiResponse<SummaryJobResponse>> getJob(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @Parameter(description = "작업 ID", example = "1") @PathVariable Long jobId) {
+        SummaryJobResponse data = summaryJobService.getJob(user, jobId);
+        return ResponseEntity.ok(ApiResponse.success("요약 작업 조회 성공", data));
+    }
+}
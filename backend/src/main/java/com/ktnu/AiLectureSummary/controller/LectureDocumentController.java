@@ -1,18 +1,35 @@
 package com.ktnu.AiLectureSummary.controller;
 
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.request.LectureExportRequest;
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.response.LectureDocumentResponse;
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.response.LectureExportResponse;
+import com.ktnu.AiLectureSummary.application.port.out.LectureExporter;
+import com.ktnu.AiLectureSummary.application.service.LectureExportService;
+import com.ktnu.AiLectureSummary.global.exception.ExportFormatNotSupportedException;
 import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
 import com.ktnu.AiLectureSummary.application.service.LectureDocumentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,18 +37,69 @@ import org.springframework.web.bind.annotation.RestController;
 public class LectureDocumentController
 {
     private final LectureDocumentService lectureDocumentService;
+    private final LectureExportService lectureExportService;
 
 
     @GetMapping("/{lectureId}/pdf")
-    @Operation(summary = "내 특정강의 PDF 다운로드", description = "application/pdf 형식으로 반환")
-    public ResponseEntity<byte[]> downloadLecturePdf(
+    @Operation(summary = "내 특정강의 PDF 다운로드", description = "application/pdf 형식으로 반환 (chunked 전송), If-None-Match가 현재 ETag와 같으면 304")
+    public ResponseEntity<StreamingResponseBody> downloadLecturePdf(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @Parameter(description = "강의 ID", example = "1") @PathVariable Long lectureId,
+            WebRequest webRequest
+    ) {
+        return download(user, lectureId, lectureDocumentService.getExporter("pdf"), webRequest);
+    }
+
+    @GetMapping("/{lectureId}/export")
+    @Operation(summary = "내 특정강의 문서 다운로드",
+            description = "format 파라미터 또는 Accept 헤더로 형식 선택 (application/pdf, text/markdown, text/plain, DOCX), 지정하지 않으면 PDF. If-None-Match가 현재 ETag와 같으면 304")
+    public ResponseEntity<StreamingResponseBody> downloadLectureDocument(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @Parameter(description = "강의 ID", example = "1") @PathVariable Long lectureId,
+            @Parameter(description = "형식 (pdf, md, txt, docx), 지정하면 Accept 헤더보다 우선", example = "md")
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest
+    ) {
+        LectureExporter exporter = lectureDocumentService.selectExporter(format, parseAccept(accept));
+        return download(user, lectureId, exporter, webRequest);
+    }
+
+    @PostMapping("/export")
+    @Operation(summary = "내 강의 여러 개 내보내기", description = "선택한 강의(또는 전체)를 강의별 문서 ZIP 또는 PDF 하나로 반환 (chunked 전송)")
+    public ResponseEntity<StreamingResponseBody> exportLectures(
             @AuthenticationPrincipal CustomUserDetails user,
-            @Parameter(description = "강의 ID", example = "1") @PathVariable Long lectureId
+            @Valid @RequestBody LectureExportRequest request
     ) {
-        byte[] pdfBytes = lectureDocumentService.generateLecturePdf(user, lectureId);
+        LectureExportResponse export = lectureExportService.prepareExport(user, request);
         return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=lecture-summary.pdf")
-                .body(pdfBytes);  // 직접 byte[] 반환
+                .contentType(MediaType.parseMediaType(export.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + export.getFileName())
+                .body(export.getBody());  // 강의를 나누어 생성하면서 바로 응답에 씀
+    }
+
+    private ResponseEntity<StreamingResponseBody> download(CustomUserDetails user, Long lectureId, LectureExporter exporter, WebRequest webRequest) {
+        LectureDocumentResponse document = lectureDocumentService.prepareDocument(user, lectureId, exporter);
+        // 제목/메모가 바뀌지 않았으면 본문 없이 304 (ETag 헤더도 여기서 설정됨)
+        if (webRequest.checkNotModified(document.getETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(document.getContentType())
+                .cacheControl(CacheControl.noCache().cachePrivate()) // 브라우저에 저장하되 매번 ETag로 재검증
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT) // 같은 URL이라도 Accept에 따라 형식이 다름
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + document.getFileName())
+                .body(document.getBody());  // 캐시에서 복사하거나 생성하면서 바로 응답에 씀 (Content-Length 없이 chunked)
+    }
+
+    private List<MediaType> parseAccept(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return List.of();
+        }
+        try {
+            return MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            throw new ExportFormatNotSupportedException("Accept 헤더 형식이 올바르지 않습니다.");
+        }
     }
 }
@@ -5,6 +5,8 @@ import com.ktnu.AiLectureSummary.application.dto.memberLecture.request.CustomTit
 import com.ktnu.AiLectureSummary.application.dto.memberLecture.response.LectureDetailResponse;
 import com.ktnu.AiLectureSummary.application.dto.memberLecture.request.MemoRequest;
 import com.ktnu.AiLectureSummary.application.dto.memberLecture.response.MemberLectureListResponse;
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.request.DashboardSort;
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.response.MemberLecturePageResponse;
 import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
 import com.ktnu.AiLectureSummary.application.service.MemberLectureService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -41,6 +43,29 @@ public class MemberLectureController {
         return ResponseEntity.ok(ApiResponse.success("내 강의 목록 조회 성공", memberLectureListResponse));
     }
 
+    /**
+     * 로그인한 사용자가 등록한 강의 목록을 커서 기반으로 한 페이지씩 반환합니다.
+     *
+     * @param user   로그인한 사용자 정보
+     * @param sort   정렬 기준 (ENROLLED_AT, CUSTOM_TITLE, DURATION)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size   페이지 크기 (최대 100)
+     * @return 강의 목록 페이지와 200 ok 상태 코드
+     */
+    @GetMapping("/dashboard/page")
+    @Operation(
+            summary = "내 강의 목록 페이지 조회",
+            description = "등록한 강의 목록을 커서 기반으로 조회합니다. 첫 페이지에는 전체 강의 수와 총 영상 길이가 포함됩니다."
+    )
+    public ResponseEntity<ApiResponse<MemberLecturePageResponse>> dashBoardPage(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @Parameter(description = "정렬 기준", example = "ENROLLED_AT") @RequestParam(defaultValue = "ENROLLED_AT") DashboardSort sort,
+            @Parameter(description = "다음 페이지 커서") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") int size) {
+        MemberLecturePageResponse memberLecturePageResponse = memberLectureService.getUserLecturePage(user, sort, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("내 강의 목록 조회 성공", memberLecturePageResponse));
+    }
+
     /**
      * 로그인한 사용자가 등록한 특정 강의의 전체 요약 내용을 조회합니다. (제목, 원문, AI 요약, 사용자 메모, 썸네일 이미지 포함)
      *
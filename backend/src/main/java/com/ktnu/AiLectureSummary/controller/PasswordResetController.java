@@ -4,8 +4,10 @@ import com.ktnu.AiLectureSummary.application.dto.member.response.MemberPasswordR
 import com.ktnu.AiLectureSummary.application.dto.member.request.MemberResetPasswordRequest;
 import com.ktnu.AiLectureSummary.application.dto.member.request.MemberVerifyRequest;
 import com.ktnu.AiLectureSummary.application.service.PasswordResetService;
+import com.ktnu.AiLectureSummary.global.security.LoginRateLimiter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class PasswordResetController {
 
     private final PasswordResetService passwordResetService;
+    private final LoginRateLimiter loginRateLimiter;
 
     /**
      * 비밀번호 변경을 위해 사용자 이름과 이메일을 입력받아 일치하면 비밀번호를 변경할 수 있는 임시 토큰을 발급합니다.
@@ -28,7 +31,9 @@ public class PasswordResetController {
     @PostMapping("/verify")
     @Operation(summary = "비밀번호 찾기 요청(이메일 이름 입력)", description = "사용자 이름과 이메일을 입력받아 일치하면 비밀번호를 변경할 수 있는 임시 토큰을 발급합니다.\n" +
             "        발급 받은 임시 토큰은 비밀번호 재설정 요청에서 헤더에 붙여서 전달해 주어야 비밀번호 변경이 가능합니다.")
-    public ResponseEntity<ApiResponse<MemberPasswordResetTokenResponse>> verify(@Valid @RequestBody MemberVerifyRequest request) {        // 실제 이메일 인증 등을 통하지 않아서 위험한 방식
+    public ResponseEntity<ApiResponse<MemberPasswordResetTokenResponse>> verify(@Valid @RequestBody MemberVerifyRequest request, HttpServletRequest httpRequest) {        // 실제 이메일 인증 등을 통하지 않아서 위험한 방식
+        // 요청 제한 (IP/이메일별, 초과 시 429)
+        loginRateLimiter.check("password-verify", httpRequest.getRemoteAddr(), request.getEmail());
         MemberPasswordResetTokenResponse response = passwordResetService.verify(request);
         return ResponseEntity.ok(ApiResponse.success("사용자의 이름과 이메일 일치, 임시 토큰 발급(15분 유효)", response));
     }
@@ -0,0 +1,60 @@
+package com.ktnu.AiLectureSummary.controller;
+
+import com.ktnu.AiLectureSummary.application.service.ThumbnailService;
+import com.ktnu.AiLectureSummary.global.config.ThumbnailProperties;
+import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
+import com.ktnu.AiLectureSummary.util.ThumbnailUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/thumbnails")
+public class ThumbnailController {
+
+    private final ThumbnailService thumbnailService;
+    private final ThumbnailProperties thumbnailProperties;
+
+    /**
+     * 강의 썸네일 이미지를 반환합니다.
+     * 썸네일 키(이미지 해시)를 ETag로 사용하여, 브라우저가 가진 이미지와 같으면 이미지를 읽지 않고 304를 반환합니다.
+     *
+     * @param user      로그인한 사용자 정보
+     * @param lectureId 강의 ID
+     * @return 썸네일 이미지 (200) 또는 304 Not Modified
+     */
+    @GetMapping("/{lectureId}")
+    @Operation(summary = "강의 썸네일 조회", description = "등록한 강의의 썸네일 이미지를 반환합니다. ETag/Cache-Control로 브라우저 캐시를 사용합니다.")
+    public ResponseEntity<byte[]> getThumbnail(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @Parameter(description = "강의 ID", example = "1") @PathVariable Long lectureId,
+            WebRequest request) {
+        String thumbnailKey = thumbnailService.getThumbnailKey(user, lectureId);
+
+        // 사용자별 권한 확인 후 내려주는 이미지이므로 공유 캐시에는 저장하지 않음
+        CacheControl cacheControl = CacheControl.maxAge(thumbnailProperties.getMaxAge()).cachePrivate().immutable();
+
+        // If-None-Match가 일치하면 이미지를 읽지 않고 304 응답
+        if (request.checkNotModified(thumbnailKey)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).eTag(thumbnailKey).build();
+        }
+
+        byte[] image = thumbnailService.loadThumbnail(thumbnailKey);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ThumbnailUtil.detectContentType(image)))
+                .cacheControl(cacheControl)
+                .eTag(thumbnailKey)
+                .body(image);
+    }
+}
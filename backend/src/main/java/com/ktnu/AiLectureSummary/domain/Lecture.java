@@ -46,21 +46,24 @@ public class Lecture {
     @Column(nullable = true,unique = true)
     private String youtubeUrl; // 요약한 영상의 링크 // 중복 저장 방지
 
+    @Column(nullable = true, length = 64)
+    private String thumbnailKey; // 썸네일 저장소 키 (이미지 SHA-256 해시) // 썸네일이 없으면 null
+
     @Lob
     @Column(columnDefinition = "LONGBLOB") // null 가능
-    private byte[] thumbnail; // 썸네일 DB에 저장
+    private byte[] thumbnail; // (기존 데이터) 썸네일 DB에 저장 // 기동 시 썸네일 저장소로 옮긴 뒤 null로 비움
 
     @OneToMany(mappedBy = "lecture", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<MemberLecture> memberLectures = new ArrayList<>();
 
-    public static Lecture fromUploadedVideo(LectureSummaryResponse request, String hash, byte[] thumbnailBytes) {
+    public static Lecture fromUploadedVideo(LectureSummaryResponse request, String hash, String thumbnailKey) {
         return Lecture.builder()
                 .titleByAi(request.getTitle())
                 .hash(hash)
                 .aiSummary(request.getAiSummary())
                 .originalText(request.getOriginalText())
                 .duration(request.getDuration())
-                .thumbnail(thumbnailBytes)
+                .thumbnailKey(thumbnailKey)
                 .build();
     }
 
@@ -76,6 +79,14 @@ public class Lecture {
     }
 
 
+    /**
+     * lecture.thumbnail 컬럼에 있던 썸네일을 저장소로 옮긴 뒤 호출합니다.
+     */
+    public void moveThumbnailToStore(String thumbnailKey) {
+        this.thumbnailKey = thumbnailKey;
+        this.thumbnail = null;
+    }
+
 //    public boolean hasSameHash(String otherHash) {
 //        return this.hash != null && this.hash.equals(otherHash);
 //    }
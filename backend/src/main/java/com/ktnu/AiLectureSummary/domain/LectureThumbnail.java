@@ -0,0 +1,26 @@
+package com.ktnu.AiLectureSummary.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 썸네일 이미지를 별도 테이블에 저장하는 엔티티 (thumbnail.store=database)
+ * lecture 행과 분리되어 강의 조회 시 이미지가 함께 읽히지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class LectureThumbnail {
+
+    @Id
+    @Column(length = 64)
+    private String thumbnailKey; // 이미지 내용의 SHA-256 해시 (hex)
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] image;
+}
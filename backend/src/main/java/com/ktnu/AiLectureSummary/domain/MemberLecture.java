@@ -3,6 +3,7 @@ package com.ktnu.AiLectureSummary.domain;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -25,7 +26,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 // member_id와 lecture_id을 조합해서 동일한 조합이 두번 이상 들어가지 못하게 함
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "lecture_id"}))
+// 대시보드 keyset 페이지 조회용 인덱스 (등록일순, 제목순)
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "lecture_id"}),
+        indexes = {
+                @Index(name = "idx_member_lecture_enrolled_at", columnList = "member_id, enrolled_at, id"),
+                @Index(name = "idx_member_lecture_custom_title", columnList = "member_id, custom_title, id")
+        }
+)
 public class MemberLecture {
 
     /**
@@ -56,16 +64,29 @@ public class MemberLecture {
     @Column(nullable = true, columnDefinition = "TEXT") // 사용자 개별 메모 저장용 (TEXT 타입)
     private String memo;
 
+    /**
+     * 문서(PDF 등) 내용 버전
+     * - 문서에 들어가는 값(제목, 메모)이 바뀔 때마다 증가 (강의 원문/요약은 바뀌지 않음)
+     * - 내보낸 문서 캐시 키와 ETag에 사용
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long contentVersion = 0L;
+
     public void updateMemo(String memo) {
         this.memo = memo;
+        this.contentVersion++;
     }
 
     public void clearMemo() {
         this.memo = null;
+        this.contentVersion++;
     }
 
     public void updateCustomTitle(String customTitle) {
         this.customTitle = customTitle;
+        this.contentVersion++;
     }
 
     public static MemberLecture create(Member member, Lecture lecture) {
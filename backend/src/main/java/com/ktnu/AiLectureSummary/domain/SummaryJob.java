@@ -0,0 +1,79 @@
+package com.ktnu.AiLectureSummary.domain;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * SummaryJob 엔티티 클래스
+ * - 강의 요약(Whisper + GPT) 요청 1건을 비동기로 처리하기 위한 작업 단위
+ * - 업로드 요청은 작업만 등록하고 바로 반환하며, 클라이언트는 작업 ID로 상태를 조회합니다.
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SummaryJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 작업을 요청한 회원 ID (조회 시 본인 작업인지 확인용)
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SummaryJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SummaryJobStatus status;
+
+    // 작업 완료 시 생성(또는 재사용)된 강의 ID
+    private Long lectureId;
+
+    // 작업 실패 시 사유
+    @Column(length = 500)
+    private String errorMessage;
+
+    @CreatedDate
+    @Column(updatable = false)
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    public static SummaryJob queued(Long memberId, SummaryJobType type) {
+        return SummaryJob.builder()
+                .memberId(memberId)
+                .type(type)
+                .status(SummaryJobStatus.QUEUED)
+                .build();
+    }
+
+    public void start() {
+        this.status = SummaryJobStatus.RUNNING;
+    }
+
+    public void complete(Long lectureId) {
+        this.status = SummaryJobStatus.DONE;
+        this.lectureId = lectureId;
+    }
+
+    public void fail(String errorMessage) {
+        this.status = SummaryJobStatus.FAILED;
+        // 컬럼 길이를 넘는 메시지는 잘라서 저장
+        this.errorMessage = errorMessage != null && errorMessage.length() > 500 ? errorMessage.substring(0, 500) : errorMessage;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ktnu.AiLectureSummary.domain;
+
+/**
+ * 요약 작업(SummaryJob)의 진행 상태
+ * QUEUED -> RUNNING -> DONE | FAILED
+ */
+public enum SummaryJobStatus {
+    QUEUED, RUNNING, DONE, FAILED
+}
@@ -0,0 +1,8 @@
+package com.ktnu.AiLectureSummary.domain;
+
+/**
+ * 요약 작업의 입력 종류 (업로드 파일 / YouTube 링크)
+ */
+public enum SummaryJobType {
+    MEDIA_FILE, YOUTUBE
+}
@@ -0,0 +1,56 @@
+package com.ktnu.AiLectureSummary.global.concurrency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 프로세스 내부(단일 서버)에서 동작하는 single-flight 구현체
+ * 진행 중인 작업을 키별 CompletableFuture로 보관하고, 작업이 끝나면 맵에서 제거합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "summary-job", name = "single-flight", havingValue = "local", matchIfMissing = true)
+public class LocalSingleFlight implements SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> task) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, future);
+
+        // 이미 같은 키로 진행 중인 작업이 있으면 결과를 기다림
+        if (running != null) {
+            return (T) await(running);
+        }
+
+        // 직접 작업을 실행하고 기다리던 요청에 결과 전달
+        try {
+            T result = task.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 작업을 실행한 요청과 같은 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ktnu.AiLectureSummary.global.concurrency;
+
+import com.ktnu.AiLectureSummary.global.config.SummaryJobProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 여러 서버(multi-node)에서 동작하는 single-flight 구현체
+ *
+ * 서버 내부의 동시 요청은 LocalSingleFlight로 합치고,
+ * 서버 간에는 Redis 락(SET NX PX)으로 한 서버만 작업을 실행하게 합니다.
+ * 락을 얻지 못한 서버는 락이 풀릴 때까지 기다린 뒤 작업을 실행하며,
+ * 작업이 DB 중복 조회부터 시작하므로 먼저 저장된 결과를 재사용하게 됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "summary-job", name = "single-flight", havingValue = "redis")
+public class RedisLockSingleFlight implements SingleFlight {
+
+    // 락 소유자(token)가 일치할 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final LocalSingleFlight localSingleFlight = new LocalSingleFlight();
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SummaryJobProperties summaryJobProperties;
+
+    public RedisLockSingleFlight(StringRedisTemplate stringRedisTemplate, SummaryJobProperties summaryJobProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.summaryJobProperties = summaryJobProperties;
+    }
+
+    @Override
+    public <T> T execute(String key, Supplier<T> task) {
+        return localSingleFlight.execute(key, () -> executeWithLock(key, task));
+    }
+
+    private <T> T executeWithLock(String key, Supplier<T> task) {
+        String lockKey = "singleflight:" + key;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + summaryJobProperties.getLockWaitTimeout().toMillis();
+
+        while (true) {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, token, summaryJobProperties.getLockTtl());
+            if (Boolean.TRUE.equals(acquired)) {
+                try {
+                    return task.get();
+                } finally {
+                    stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+                }
+            }
+
+            // 대기 시간을 넘기면 락 없이 실행 (최악의 경우 DB unique 제약으로 중복 저장이 막힘)
+            if (System.currentTimeMillis() > deadline) {
+                log.warn("single-flight 락 대기 시간 초과, 락 없이 실행 - key: {}", lockKey);
+                return task.get();
+            }
+
+            try {
+                Thread.sleep(summaryJobProperties.getLockPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return task.get();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ktnu.AiLectureSummary.global.concurrency;
+
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나의 실행으로 합치는 single-flight 인터페이스
+ *
+ * 같은 영상(해시)이나 같은 YouTube 링크에 대한 요약 요청이 동시에 들어오면
+ * 먼저 들어온 요청만 작업을 실행하고, 나머지 요청은 그 결과를 공유합니다.
+ */
+public interface SingleFlight {
+
+    /**
+     * 같은 키로 진행 중인 작업이 있으면 그 결과를 기다려 반환하고, 없으면 작업을 직접 실행합니다.
+     * 작업이 예외로 끝나면 기다리던 요청에도 같은 예외가 전달됩니다.
+     *
+     * @param key  작업 식별 키 (예: "hash:..." / "youtube:...")
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    <T> T execute(String key, Supplier<T> task);
+}
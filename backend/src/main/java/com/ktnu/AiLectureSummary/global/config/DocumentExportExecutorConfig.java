@@ -0,0 +1,49 @@
+package com.ktnu.AiLectureSummary.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 문서 내보내기 전용 스레드 풀 설정 클래스
+ *
+ * PDF를 응답 스트림에 직접 쓰는 StreamingResponseBody가 이 풀에서 실행됩니다.
+ * 동시에 만들어지는 문서 수가 풀 크기로 제한되므로, 문서 크기와 관계없이 내보내기가 사용하는 메모리 상한이 정해집니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class DocumentExportExecutorConfig {
+
+    private final PdfProperties pdfProperties;
+
+    @Bean
+    public ThreadPoolTaskExecutor documentExportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pdfProperties.getExportPoolSize());
+        executor.setMaxPoolSize(pdfProperties.getExportPoolSize());
+        executor.setQueueCapacity(pdfProperties.getExportQueueCapacity());
+        executor.setThreadNamePrefix("document-export-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 여러 강의 내보내기에서 문서를 병렬로 생성하는 스레드 풀
+     * 응답을 쓰는 documentExportExecutor와 분리하여, 응답 스레드가 같은 풀의 생성 작업을 기다리며 멈추지 않게 합니다.
+     * 대기열이 가득 차면 응답 스레드가 직접 생성합니다. (CallerRunsPolicy)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor documentRenderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pdfProperties.getRenderPoolSize());
+        executor.setMaxPoolSize(pdfProperties.getRenderPoolSize());
+        executor.setQueueCapacity(pdfProperties.getExportBatchSize() * pdfProperties.getExportPoolSize());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("document-render-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -5,10 +5,20 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "fastapi")
 @Getter
 @Setter
 public class FastApiProperties {
     private String url;
+
+    // FastAPI 호출용 커넥션 풀 설정
+    private int maxTotal = 20; // 전체 최대 커넥션 수
+    private int maxPerRoute = 10; // FastAPI 서버(route) 당 최대 커넥션 수
+    private Duration connectTimeout = Duration.ofSeconds(3); // 연결 타임아웃
+    private Duration responseTimeout = Duration.ofSeconds(100); // 응답 타임아웃 (Whisper + GPT 처리 시간)
+    private Duration connectionRequestTimeout = Duration.ofSeconds(5); // 풀에서 커넥션을 빌릴 때까지 대기 시간
+    private Duration idleEvictionTimeout = Duration.ofSeconds(30); // 유휴 커넥션 정리 기준 시간
 }
@@ -21,4 +21,7 @@ public class JwtProperties {
     private long expiration;
 
     private long refreshExpiration;
+
+    // 교체된 refreshToken이 이 시간(ms) 안에 다시 들어오면 재사용이 아닌 동시 요청(여러 탭)으로 봄
+    private long refreshReuseGrace = 10_000;
 }
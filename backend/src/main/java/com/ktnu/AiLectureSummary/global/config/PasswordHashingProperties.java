@@ -0,0 +1,27 @@
+package com.ktnu.AiLectureSummary.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 설정
+ * - 알고리즘과 작업 비용(cost): 로그인 성공 시 저장된 해시가 현재 설정보다 약하면 새 설정으로 다시 해싱
+ * - 전용 스레드 풀: 동시에 실행되는 해싱 수를 코어 수로 제한하고, 대기열이 가득 차면 바로 거절(503)
+ */
+@Component
+@ConfigurationProperties(prefix = "password-hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+    private String algorithm = "bcrypt"; // 새 비밀번호 저장 방식: bcrypt | argon2 | pbkdf2
+    private int bcryptStrength = 10;
+    private Duration calibrationTarget; // 설정 시 기동할 때 이 시간 안에 끝나는 가장 높은 bcrypt strength를 측정해 사용
+
+    private int poolSize = 0; // 0이면 CPU 코어 수
+    private int queueCapacity = 64;
+    private Duration waitTimeout = Duration.ofSeconds(5); // 요청 스레드가 해싱 결과를 기다리는 최대 시간
+}
@@ -0,0 +1,33 @@
+package com.ktnu.AiLectureSummary.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * PDF 내보내기 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "pdf")
+@Getter
+@Setter
+public class PdfProperties {
+    private String fontPath = "fonts/NanumGothic.ttf"; // 클래스패스 경로
+    private boolean fontSubset = true; // 문서에 사용된 글자만 폰트에 포함 (false면 폰트 전체 포함)
+
+    // 생성한 PDF 캐시 ({cacheDir}/{memberLectureId}/{버전}.pdf, 강의별 최신 버전 하나만 유지)
+    private boolean cacheEnabled = true;
+    private String cacheDir = "./data/pdf-cache";
+
+    // 응답 스트림에 PDF를 쓰는 전용 스레드 풀 (StreamingResponseBody)
+    private int exportPoolSize = 4;
+    private int exportQueueCapacity = 50;
+    private Duration exportTimeout = Duration.ofMinutes(2); // 응답 하나를 쓰는 최대 시간
+
+    // 여러 강의 내보내기: 문서 생성 전용 스레드 풀과 한 번에 조회/생성하는 강의 수
+    private int renderPoolSize = 2;
+    private int exportBatchSize = 8;
+}
@@ -0,0 +1,21 @@
+package com.ktnu.AiLectureSummary.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * JWT 인증 시 사용하는 사용자 정보(CustomUserDetails) 캐시 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "principal-cache")
+@Getter
+@Setter
+public class PrincipalCacheProperties {
+    private long maximumSize = 10_000;
+    // 다른 서버에서 변경된 회원 정보는 최대 이 시간만큼 늦게 반영됨 (같은 서버의 변경은 즉시 무효화)
+    private Duration ttl = Duration.ofMinutes(5);
+}
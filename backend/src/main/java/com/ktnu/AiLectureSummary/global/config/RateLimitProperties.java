@@ -0,0 +1,30 @@
+package com.ktnu.AiLectureSummary.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인/비밀번호 찾기 요청 제한 설정 (토큰 버킷)
+ * 용량만큼 연속 요청이 가능하고, 이후에는 분당 충전량만큼만 허용됩니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    // IP별 버킷 (같은 IP에서 여러 계정을 시도하는 크리덴셜 스터핑 방어)
+    private int ipCapacity = 20;
+    private double ipRefillPerMinute = 10;
+
+    // 이메일 + IP별 버킷 (한 IP에서 한 계정을 반복 시도하는 무차별 대입 방어)
+    // IP를 함께 묶으므로 다른 사람이 피해자의 이메일로 요청을 쏟아부어도 피해자의 로그인은 막히지 않음
+    private int emailCapacity = 5;
+    private double emailRefillPerMinute = 2;
+
+    // Redis 장애 시(RedisCircuitBreaker) 사용하는 서버 로컬 버킷 수
+    private long localMaximumSize = 100_000;
+}
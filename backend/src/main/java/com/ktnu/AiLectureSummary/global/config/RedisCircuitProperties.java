@@ -0,0 +1,29 @@
+package com.ktnu.AiLectureSummary.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 인증 경로 Redis 호출 서킷 브레이커 설정
+ *
+ * 연속 실패가 failureThreshold에 도달하면 openDuration 동안 Redis를 호출하지 않고 바로 장애 정책을 적용합니다.
+ * - failOpen에 포함된 작업: 대체 동작으로 계속 처리 (예: 블랙리스트 조회 -> 로컬 캐시만 확인)
+ * - 그 외 작업(fail-closed): 503으로 실패 (예: refreshToken 발급/교체, 비밀번호 재설정 토큰)
+ */
+@Component
+@ConfigurationProperties(prefix = "redis-circuit")
+@Getter
+@Setter
+public class RedisCircuitProperties {
+    private int failureThreshold = 5;
+    private Duration openDuration = Duration.ofSeconds(10);
+    private Duration slowCallThreshold = Duration.ofMillis(200); // 응답은 받았어도 이보다 오래 걸리면 실패로 집계 (대기 상한은 spring.data.redis.timeout)
+
+    private Set<String> failOpen = new HashSet<>(Set.of("blacklist-check", "blacklist-resync", "logout", "rate-limit"));
+}
@@ -1,10 +1,18 @@
 package com.ktnu.AiLectureSummary.global.config;
 
+import com.ktnu.AiLectureSummary.global.security.AccessTokenBlacklist;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
@@ -17,6 +25,37 @@ public class RedisConfig {
         return new StringRedisTemplate(connectionFactory);
     }
 
+    /**
+     * Lettuce 클라이언트 옵션
+     * - 연결이 끊긴 동안 들어온 명령은 대기열에 쌓지 않고 바로 실패 (재연결될 때까지 timeout만큼 기다리지 않음)
+     * - 모든 명령에 spring.data.redis.timeout 적용 (RedisCircuitBreaker는 요청 스레드에서 바로 호출하므로 이 값이 요청의 Redis 대기 상한)
+     * 커넥션 풀과 timeout 값은 application.yml(spring.data.redis.lettuce.pool)에서 설정합니다.
+     */
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer lettuceClientOptionsCustomizer(RedisProperties redisProperties) {
+        SocketOptions.Builder socketOptions = SocketOptions.builder().keepAlive(true);
+        if (redisProperties.getConnectTimeout() != null) {
+            socketOptions.connectTimeout(redisProperties.getConnectTimeout());
+        }
+        return builder -> builder.clientOptions(ClientOptions.builder()
+                .socketOptions(socketOptions.build())
+                .timeoutOptions(TimeoutOptions.enabled())
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build());
+    }
+
+    /**
+     * 다른 서버의 로그아웃(블랙리스트 등록) 메시지를 구독하는 리스너 컨테이너입니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       AccessTokenBlacklist accessTokenBlacklist) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(accessTokenBlacklist, new ChannelTopic(AccessTokenBlacklist.CHANNEL));
+        return container;
+    }
+
     /**
      * Redis에서 다양한 자료형(Object)을 다룰 수 있도록 설정된 일반적인 RedisTemplate Bean입니다.
      * 복잡한 객체 직렬화 및 다양한 Redis 자료구조(Hash, List 등) 작업에 사용됩니다.
@@ -1,28 +1,83 @@
 package com.ktnu.AiLectureSummary.global.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * RestTemplate 설정 클래스
  *
- * 외부 API 호출시 사용되는 RestTemplate을 빈으로 등록합니다.
+ * FastAPI 호출시 사용되는 RestTemplate을 빈으로 등록합니다.
+ * 요청마다 새 연결을 여는 대신 커넥션 풀(HTTP/1.1 keep-alive)을 재사용하여 TCP 연결 비용을 줄입니다.
  */
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
+
+    private final FastApiProperties fastApiProperties;
+
+    /**
+     * FastAPI 호출용 커넥션 풀
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager fastApiConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(fastApiProperties.getMaxTotal())
+                .setMaxConnPerRoute(fastApiProperties.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(fastApiProperties.getConnectTimeout())) // 연결 타임아웃
+                        .setSocketTimeout(Timeout.of(fastApiProperties.getResponseTimeout())) // 소켓 읽기 타임아웃
+                        .build())
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        // 요청 시간 및 응답 시간 설정을 위한 팩토리 생성
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(3000);  // 연결 타임아웃: 3초
-        factory.setReadTimeout(100000); // 응답 타임 아웃: 100초
+    public RestTemplate fastApiRestTemplate(PoolingHttpClientConnectionManager fastApiConnectionManager) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(fastApiConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(fastApiProperties.getConnectionRequestTimeout())) // 풀 대기 타임아웃
+                        .setResponseTimeout(Timeout.of(fastApiProperties.getResponseTimeout())) // 응답 타임아웃
+                        .build())
+                .evictExpiredConnections() // 만료된 커넥션 정리
+                .evictIdleConnections(TimeValue.of(fastApiProperties.getIdleEvictionTimeout())) // 오래 쉬고 있는 커넥션 정리
+                .build();
 
-        // RestTemplate 인스턴스 생성 및 팩토리 설정 적용
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setRequestFactory(factory);
         // 스프링 컨테이너에 등록될 RestTemplate Bean 반환
-        return restTemplate;
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    /**
+     * 커넥션 풀 상태를 메트릭으로 노출합니다. (/actuator/metrics/fastapi.http.pool.*)
+     * leased가 max에 가깝고 pending이 쌓이면 풀이 포화된 상태입니다.
+     */
+    @Bean
+    public MeterBinder fastApiConnectionPoolMetrics(PoolingHttpClientConnectionManager fastApiConnectionManager) {
+        return registry -> {
+            Gauge.builder("fastapi.http.pool.leased", fastApiConnectionManager, cm -> cm.getTotalStats().getLeased())
+                    .description("사용 중인 FastAPI 커넥션 수")
+                    .register(registry);
+            Gauge.builder("fastapi.http.pool.available", fastApiConnectionManager, cm -> cm.getTotalStats().getAvailable())
+                    .description("재사용 대기 중인 FastAPI 커넥션 수")
+                    .register(registry);
+            Gauge.builder("fastapi.http.pool.pending", fastApiConnectionManager, cm -> cm.getTotalStats().getPending())
+                    .description("커넥션을 기다리는 요청 수")
+                    .register(registry);
+            Gauge.builder("fastapi.http.pool.max", fastApiConnectionManager, cm -> cm.getTotalStats().getMax())
+                    .description("최대 FastAPI 커넥션 수")
+                    .register(registry);
+        };
     }
 }
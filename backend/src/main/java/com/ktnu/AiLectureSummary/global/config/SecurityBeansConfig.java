@@ -1,17 +1,38 @@
 package com.ktnu.AiLectureSummary.global.config;
 
+import com.ktnu.AiLectureSummary.global.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import com.ktnu.AiLectureSummary.global.security.PasswordHashingCalibrator;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
 
 @Configuration
 public class SecurityBeansConfig {
     /**
      * 비밀번호 해싱에 사용되는 passwordEncoder 빈 등록
+     * BCrypt 연산은 요청 스레드가 아닌 크기가 제한된 전용 스레드 풀에서 실행됩니다.
+     * 새 비밀번호는 "{algorithm}해시" 형식으로 저장되며, 접두사가 없는 기존 해시는 bcrypt로 검증합니다.
      */
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties, MeterRegistry meterRegistry){
+        int strength = passwordHashingProperties.getCalibrationTarget() != null
+                ? PasswordHashingCalibrator.calibrateBCryptStrength(passwordHashingProperties.getCalibrationTarget())
+                : passwordHashingProperties.getBcryptStrength();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(passwordHashingProperties.getAlgorithm(), Map.of(
+                "bcrypt", bcrypt,
+                "argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8(),
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt); // 접두사 없이 저장된 기존 bcrypt 해시
+
+        return new BoundedPasswordEncoder(delegating, passwordHashingProperties, meterRegistry);
     }
 }
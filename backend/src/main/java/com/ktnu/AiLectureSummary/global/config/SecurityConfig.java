@@ -3,6 +3,7 @@ package com.ktnu.AiLectureSummary.global.config;
 import com.ktnu.AiLectureSummary.global.security.JwtAuthenticationFilter;
 import com.ktnu.AiLectureSummary.global.security.handler.CustomAccessDeniedHandler;
 import com.ktnu.AiLectureSummary.global.security.handler.CustomAuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,10 +34,13 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())  // API 서버는 보통 CSRF 비활성화
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // httponly 설정
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 스트리밍 응답 완료 디스패치 (최초 요청에서 이미 인가됨)
                         .requestMatchers("/api/auth/login", "/api/auth/register","/api/auth/refresh", //로그인 관련
                                 "/api/password/verify","/api/password/reset", // 비밀번호 재설정 관련
                                 "/health", "/swagger-ui/**","/v3/api-docs/**", // swagger & health check
                                 "/swagger-ui.html").permitAll() // 로그인, 회원가입, 스웨거, 헬스체크, 비밀번호 변경 등 인증없이 접근 허용
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // 메트릭 등 운영 정보는 관리자만 조회
 //                        .requestMatchers(HttpMethod.GET, "/api/lectures/**").permitAll()
                         .anyRequest().authenticated() // 그 외 요청은 인증 필요
                 )
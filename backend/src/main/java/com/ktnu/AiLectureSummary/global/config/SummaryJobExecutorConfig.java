@@ -0,0 +1,33 @@
+package com.ktnu.AiLectureSummary.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 요약 작업 전용 스레드 풀 설정 클래스
+ *
+ * 대기열이 가득 찬 경우 기본 AbortPolicy에 따라 TaskRejectedException이 발생하며,
+ * 작업 등록 단계에서 503으로 응답합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class SummaryJobExecutorConfig {
+
+    private final SummaryJobProperties summaryJobProperties;
+
+    @Bean
+    public ThreadPoolTaskExecutor summaryJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(summaryJobProperties.getCorePoolSize());
+        executor.setMaxPoolSize(summaryJobProperties.getMaxPoolSize());
+        executor.setQueueCapacity(summaryJobProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("summary-job-");
+        // 종료 시 진행 중인 요약 작업이 끝날 때까지 대기
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(120);
+        executor.initialize();
+        return executor;
+    }
+}
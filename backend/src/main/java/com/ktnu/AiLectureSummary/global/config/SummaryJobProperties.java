@@ -0,0 +1,28 @@
+package com.ktnu.AiLectureSummary.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 요약 작업 실행 스레드 풀 설정
+ * 동시에 FastAPI로 나가는 요약 요청 수는 Tomcat 스레드가 아니라 이 값으로 결정됩니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "summary-job")
+@Getter
+@Setter
+public class SummaryJobProperties {
+    private int corePoolSize = 2;
+    private int maxPoolSize = 4;
+    private int queueCapacity = 50; // 대기열이 가득 차면 작업 등록을 거절(503)
+
+    // 동일 영상/링크 동시 요청 합치기: local(단일 서버) | redis(다중 서버, Redis 락 사용)
+    private String singleFlight = "local";
+    private Duration lockTtl = Duration.ofMinutes(3); // FastAPI 응답 타임아웃(100초)보다 길게
+    private Duration lockWaitTimeout = Duration.ofMinutes(3);
+    private Duration lockPollInterval = Duration.ofMillis(500);
+}
@@ -0,0 +1,24 @@
+package com.ktnu.AiLectureSummary.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 썸네일 저장소 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "thumbnail")
+@Getter
+@Setter
+public class ThumbnailProperties {
+    // 저장소 종류: filesystem(로컬 디스크) | database(lecture_thumbnail 테이블, 디스크가 유지되지 않는 환경용)
+    private String store = "filesystem";
+    private String storageDir = "./data/thumbnails";
+    private Duration maxAge = Duration.ofDays(365); // 키가 내용 해시라 URL이 바뀌지 않는 한 캐시 유지
+    private boolean migrateLegacy = true; // 기동 시 lecture.thumbnail 컬럼의 기존 이미지를 저장소로 이동
+    private int migrationBatchSize = 50;
+}
@@ -0,0 +1,22 @@
+package com.ktnu.AiLectureSummary.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * access_token 블랙리스트 로컬 캐시 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "token-blacklist")
+@Getter
+@Setter
+public class TokenBlacklistProperties {
+    // true: 요청마다 Redis를 조회하지 않고 로컬에 동기화된 블랙리스트만 확인
+    private boolean localCache = true;
+    // 로그아웃 목록 전체 재동기화 주기 (pub/sub 메시지를 놓쳐도 이 시간 안에 반영됨)
+    private long resyncIntervalMs = 10_000;
+    // 로컬 캐시 최대 항목 수 (넘으면 로컬 캐시를 믿지 않고 Redis를 직접 조회)
+    private long maximumSize = 100_000;
+}
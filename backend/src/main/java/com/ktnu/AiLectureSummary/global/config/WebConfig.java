@@ -2,6 +2,8 @@ package com.ktnu.AiLectureSummary.global.config;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -9,6 +11,9 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ThreadPoolTaskExecutor documentExportExecutor;
+    private final PdfProperties pdfProperties;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")  // 모든 API 경로
@@ -18,4 +23,14 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true); // 인증정보 허용
     }
-}
\ No newline at end of file
+
+    /**
+     * StreamingResponseBody(PDF 내보내기)를 실행할 스레드 풀과 제한 시간
+     * 지정하지 않으면 요청마다 새 스레드를 만드는 SimpleAsyncTaskExecutor가 사용됩니다.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(documentExportExecutor);
+        configurer.setDefaultTimeout(pdfProperties.getExportTimeout().toMillis());
+    }
+}
@@ -0,0 +1,7 @@
+package com.ktnu.AiLectureSummary.global.exception;
+
+public class ExportFormatNotSupportedException extends RuntimeException {
+    public ExportFormatNotSupportedException(String message) {
+        super(message);
+    }
+}
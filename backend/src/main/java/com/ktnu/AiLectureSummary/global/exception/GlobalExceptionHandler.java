@@ -2,6 +2,7 @@ package com.ktnu.AiLectureSummary.global.exception;
 
 import com.ktnu.AiLectureSummary.application.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -177,4 +178,95 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(ErrorResponse.of("ACCOUNT_INACTIVE", e.getMessage(), HttpStatus.UNAUTHORIZED.value(), request.getRequestURI()));
     }
+
+    /**
+     * 조회한 요약 작업을 찾을 수 없어 발생한 예외 처리 핸들러
+     *
+     * @param e 요약 작업을 찾을 수 없어 발생한 예외 객체
+     * @param request request 요청 객체 (요청 URI 포함)
+     * @return 404 (Not Found) 응답과 함께 상세 에러 메시지 반환
+     */
+    @ExceptionHandler(SummaryJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleSummaryJobNotFoundException(SummaryJobNotFoundException e, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ErrorResponse.of("SUMMARY_JOB_NOT_FOUND", e.getMessage(), HttpStatus.NOT_FOUND.value(), request.getRequestURI()));
+    }
+
+    /**
+     * 요약 작업 대기열이 가득 차 작업 등록이 거절될 때 발생하는 예외 처리 핸들러
+     *
+     * @param e 작업 등록 거절 시 발생한 예외 객체
+     * @param request request 요청 객체 (요청 URI 포함)
+     * @return 503 (Service Unavailable) 응답과 상세 에러 메시지
+     */
+    @ExceptionHandler(SummaryJobRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleSummaryJobRejectedException(SummaryJobRejectedException e, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse.of("SUMMARY_JOB_REJECTED", e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value(), request.getRequestURI()));
+    }
+
+    /**
+     * 잘못된 페이지 커서 예외 처리 핸들러
+     *
+     * @param e 커서 해석 실패 시 발생한 예외 객체
+     * @return 400 (Bad Request)
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException e, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                ErrorResponse.of("INVALID_CURSOR", e.getMessage(), HttpStatus.BAD_REQUEST.value(), request.getRequestURI())
+        );
+    }
+
+    /**
+     * 요청 제한 초과 예외 처리 핸들러
+     *
+     * @param e 로그인/비밀번호 찾기 요청이 너무 많을 때 발생한 예외 객체
+     * @return 429 (Too Many Requests) 응답과 Retry-After 헤더
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ErrorResponse.of("TOO_MANY_REQUESTS", e.getMessage(), HttpStatus.TOO_MANY_REQUESTS.value(), request.getRequestURI()));
+    }
+
+    /**
+     * 비밀번호 해싱 풀 포화 예외 처리 핸들러
+     *
+     * @param e 해싱 대기열이 가득 찼거나 대기 시간이 초과되어 발생한 예외 객체
+     * @return 503 (Service Unavailable) 응답과 Retry-After 헤더
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingRejectedException(PasswordHashingRejectedException e, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ErrorResponse.of("PASSWORD_HASHING_BUSY", e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value(), request.getRequestURI()));
+    }
+
+    /**
+     * Redis 장애 예외 처리 핸들러
+     *
+     * @param e fail-closed 작업(refreshToken, 비밀번호 재설정 등)에서 Redis를 사용할 수 없을 때 발생한 예외 객체
+     * @return 503 (Service Unavailable) 응답과 Retry-After 헤더
+     */
+    @ExceptionHandler(RedisUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleRedisUnavailableException(RedisUnavailableException e, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ErrorResponse.of("REDIS_UNAVAILABLE", e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value(), request.getRequestURI()));
+    }
+
+    /**
+     * 지원하지 않는 내보내기 형식 예외 처리 핸들러
+     *
+     * @param e format 파라미터나 Accept 헤더에 맞는 내보내기 형식이 없어 발생한 예외 객체
+     * @return 406 (Not Acceptable) 응답과 예외 메세지
+     */
+    @ExceptionHandler(ExportFormatNotSupportedException.class)
+    public ResponseEntity<ErrorResponse> handleExportFormatNotSupportedException(ExportFormatNotSupportedException e, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(
+                ErrorResponse.of("EXPORT_FORMAT_NOT_SUPPORTED", e.getMessage(), HttpStatus.NOT_ACCEPTABLE.value(), request.getRequestURI())
+        );
+    }
 }
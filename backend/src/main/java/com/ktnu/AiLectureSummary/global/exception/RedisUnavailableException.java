@@ -0,0 +1,11 @@
+package com.ktnu.AiLectureSummary.global.exception;
+
+public class RedisUnavailableException extends RuntimeException {
+    public RedisUnavailableException(String message) {
+        super(message);
+    }
+
+    public RedisUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
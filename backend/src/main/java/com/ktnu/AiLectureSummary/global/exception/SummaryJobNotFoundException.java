@@ -0,0 +1,11 @@
+package com.ktnu.AiLectureSummary.global.exception;
+
+public class SummaryJobNotFoundException extends RuntimeException {
+    public SummaryJobNotFoundException(String message) {
+        super(message);
+    }
+
+    public SummaryJobNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ktnu.AiLectureSummary.global.exception;
+
+public class SummaryJobRejectedException extends RuntimeException {
+    public SummaryJobRejectedException(String message) {
+        super(message);
+    }
+
+    public SummaryJobRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,130 @@
+package com.ktnu.AiLectureSummary.global.redis;
+
+import com.ktnu.AiLectureSummary.global.config.RedisCircuitProperties;
+import com.ktnu.AiLectureSummary.global.exception.RedisUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 인증 경로의 Redis 호출을 감싸는 서킷 브레이커
+ *
+ * - CLOSED: Redis 호출 (예외 또는 slowCallThreshold보다 오래 걸린 호출은 실패로 집계)
+ * - OPEN: 연속 실패가 failureThreshold에 도달하면 openDuration 동안 Redis를 호출하지 않음
+ * - HALF_OPEN: openDuration 이후 요청 하나만 Redis로 보내 성공하면 CLOSED, 실패하면 다시 OPEN
+ *
+ * 실패하거나 열려 있을 때는 작업별 정책(RedisCircuitProperties.failOpen)에 따라 대체 동작을 실행하거나 503으로 실패합니다.
+ *
+ * Redis 호출은 요청 스레드에서 바로 실행합니다. 대기 시간의 상한은 Lettuce 명령 timeout(spring.data.redis.timeout)과
+ * 커넥션 풀 대기 시간(max-wait)이 보장하므로, 별도 스레드 풀로 넘겨 기다리지 않습니다.
+ * Redis가 멈춰도 요청은 최대 Lettuce 명령 timeout만 기다리고, 서킷이 열린 뒤에는 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final RedisCircuitProperties properties;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean(); // HALF_OPEN에서 시험 요청 1개만 허용
+    private volatile long openedAt = 0; // 0이면 닫힘
+
+    public RedisCircuitBreaker(RedisCircuitProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Redis 작업을 실행합니다.
+     *
+     * @param operation 작업 이름 (장애 정책 구분용)
+     * @param action    Redis 호출
+     * @param fallback  fail-open 작업의 대체 동작
+     * @return Redis 결과 또는 대체 동작 결과
+     * @throws RedisUnavailableException fail-closed 작업이 실패했거나 서킷이 열린 경우
+     */
+    public <T> T execute(String operation, Supplier<T> action, Supplier<T> fallback) {
+        if (!tryAcquire()) {
+            return onUnavailable(operation, fallback, null);
+        }
+
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) { // Lettuce 명령 timeout, 연결 실패, 커넥션 풀 대기 초과 포함
+            onFailure(operation, e);
+            return onUnavailable(operation, fallback, e);
+        }
+
+        // 응답은 받았지만 느린 호출은 결과를 그대로 쓰되 실패로 집계 (Redis가 느려지면 서킷을 열어 다음 요청부터 기다리지 않음)
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (elapsedMillis > properties.getSlowCallThreshold().toMillis()) {
+            onFailure(operation, new IllegalStateException("느린 Redis 응답: " + elapsedMillis + "ms"));
+        } else {
+            onSuccess();
+        }
+        return result;
+    }
+
+    /**
+     * 결과가 없는 Redis 작업을 실행합니다. fail-open 작업은 실패 시 건너뜁니다.
+     */
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        }, () -> null);
+    }
+
+    public State getState() {
+        if (openedAt == 0) {
+            return State.CLOSED;
+        }
+        return System.currentTimeMillis() - openedAt < properties.getOpenDuration().toMillis() ? State.OPEN : State.HALF_OPEN;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    private boolean tryAcquire() {
+        return switch (getState()) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> trialInFlight.compareAndSet(false, true);
+        };
+    }
+
+    private void onSuccess() {
+        if (openedAt != 0) {
+            log.info("Redis 서킷 닫힘 (복구)");
+        }
+        consecutiveFailures.set(0);
+        openedAt = 0;
+        trialInFlight.set(false);
+    }
+
+    private void onFailure(String operation, Throwable cause) {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (openedAt != 0 || failures >= properties.getFailureThreshold()) {
+            if (openedAt == 0) {
+                log.warn("Redis 서킷 열림: {}회 연속 실패 (마지막 작업: {}, 원인: {})", failures, operation, String.valueOf(cause));
+            }
+            openedAt = System.currentTimeMillis(); // HALF_OPEN 시험 요청 실패 시 다시 openDuration 동안 열림
+        }
+        trialInFlight.set(false);
+    }
+
+    private <T> T onUnavailable(String operation, Supplier<T> fallback, Throwable cause) {
+        if (properties.getFailOpen().contains(operation) && fallback != null) {
+            return fallback.get();
+        }
+        throw new RedisUnavailableException("일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", cause);
+    }
+}
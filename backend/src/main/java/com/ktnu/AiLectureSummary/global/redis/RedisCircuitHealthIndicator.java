@@ -0,0 +1,30 @@
+package com.ktnu.AiLectureSummary.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/health의 redisCircuit 항목
+ * 서킷이 열려 있으면 DEGRADED로 표시합니다. (HTTP 200 유지: 인스턴스를 트래픽에서 빼지 않고 대체 동작으로 계속 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCircuitHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Redis 장애로 대체 동작 중");
+
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    @Override
+    public Health health() {
+        RedisCircuitBreaker.State state = redisCircuitBreaker.getState();
+        Health.Builder builder = state == RedisCircuitBreaker.State.CLOSED ? Health.up() : Health.status(DEGRADED);
+        return builder
+                .withDetail("state", state.name())
+                .withDetail("consecutiveFailures", redisCircuitBreaker.getConsecutiveFailures())
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.ktnu.AiLectureSummary.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 여러 Redis 명령을 한 번의 왕복으로 보내는 파이프라인 헬퍼
+ * 로그아웃(블랙리스트 등록 + refreshToken 삭제)처럼 서로 다른 저장소의 명령을 함께 보낼 때 사용합니다.
+ * 모든 호출은 RedisCircuitBreaker를 거치며, 작업 이름으로 장애 정책(fail-open/closed)이 정해집니다.
+ *
+ * 파이프라인 안에서는 명령의 결과를 바로 읽을 수 없으므로(모두 null), 결과는 반환값 목록으로 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisPipeline {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    /**
+     * @param operation 작업 이름 (장애 정책 구분용)
+     * @param commands  파이프라인에 쌓을 명령
+     * @return 명령별 결과 (쌓은 순서), fail-open 작업이 실패한 경우 빈 목록
+     */
+    public List<Object> execute(String operation, Consumer<StringRedisConnection> commands) {
+        return redisCircuitBreaker.execute(operation,
+                () -> stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    commands.accept((StringRedisConnection) connection);
+                    return null;
+                }),
+                List::of);
+    }
+}
@@ -0,0 +1,222 @@
+package com.ktnu.AiLectureSummary.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ktnu.AiLectureSummary.global.config.TokenBlacklistProperties;
+import com.ktnu.AiLectureSummary.global.redis.RedisCircuitBreaker;
+import com.ktnu.AiLectureSummary.global.redis.RedisPipeline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그아웃한 access_token 블랙리스트
+ *
+ * Redis가 원본이며, 각 서버는 로그아웃 목록을 로컬 캐시에 동기화해 두고 요청마다 로컬 캐시만 확인합니다.
+ * - 로그아웃 시: blacklist:{id} 키 저장 + blacklist:recent(만료 시각 점수) 추가 + 채널 발행 (한 번의 파이프라인)
+ * - 다른 서버: 채널 메시지를 받아 즉시 로컬 캐시에 추가 (보통 수 ms 이내 반영)
+ * - 메시지 유실 대비: resyncIntervalMs마다 blacklist:recent 전체를 다시 읽음 → 최대 반영 지연 = 재동기화 주기
+ * - 마지막 재동기화 후 한 주기가 지나면(재동기화 실패, Redis 장애 등) 다음 재동기화가 성공할 때까지 로컬 캐시를 믿지 않고 Redis를 직접 조회
+ * - 로그아웃 목록이 maximumSize를 넘어 항목이 밀려나면 다음 재동기화에서 모두 담을 수 있을 때까지 Redis를 직접 조회
+ */
+@Slf4j
+@Component
+public class AccessTokenBlacklist implements MessageListener {
+
+    public static final String CHANNEL = "blacklist:events";
+    private static final String KEY_PREFIX = "blacklist:";
+    private static final String RECENT_KEY = "blacklist:recent";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisPipeline redisPipeline;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final TokenBlacklistProperties properties;
+    private final Cache<String, Long> revoked; // 토큰 식별자 -> 토큰 만료 시각(ms)
+
+    private final AtomicLong sizeEvictions = new AtomicLong(); // maximumSize 초과로 밀려난 항목 수 (누적)
+
+    private volatile long lastSyncedAt = 0; // 마지막으로 전체 동기화에 성공한 시각 (0이면 아직 동기화 전)
+
+    public AccessTokenBlacklist(StringRedisTemplate stringRedisTemplate, RedisPipeline redisPipeline,
+                                RedisCircuitBreaker redisCircuitBreaker, TokenBlacklistProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisPipeline = redisPipeline;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.properties = properties;
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .evictionListener((String key, Long expiresAt, RemovalCause cause) -> {
+                    // 아직 유효한 로그아웃 항목이 빠졌으므로 로컬 캐시만으로 "로그아웃 안 됨"을 판단할 수 없음
+                    if (cause == RemovalCause.SIZE) {
+                        sizeEvictions.incrementAndGet();
+                        lastSyncedAt = 0;
+                    }
+                })
+                .expireAfter(new Expiry<String, Long>() {
+                    // 토큰이 만료되면 블랙리스트에 둘 필요가 없음
+                    @Override
+                    public long expireAfterCreate(String key, Long expiresAt, long currentTime) {
+                        return Duration.ofMillis(Math.max(0, expiresAt - System.currentTimeMillis())).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Long expiresAt, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, expiresAt, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Long expiresAt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 토큰을 블랙리스트에 등록하고 다른 서버에 알립니다.
+     *
+     * @param tokenId 토큰 식별자 (jti)
+     * @param ttl     토큰 만료까지 남은 시간
+     */
+    public void revoke(String tokenId, Duration ttl) {
+        long expiresAt = revokeLocally(tokenId, ttl);
+        if (expiresAt == 0) {
+            return; // 이미 만료된 토큰
+        }
+        redisPipeline.execute("logout", redis -> revoke(redis, tokenId, expiresAt));
+    }
+
+    /**
+     * 이 서버의 로컬 캐시에 먼저 등록합니다.
+     * Redis 장애(서킷 열림, 연결 실패)로 파이프라인이 실행되지 않아도 이 서버에서는 바로 차단되도록
+     * Redis 명령을 보내기 전에 호출 스레드에서 실행해야 합니다.
+     *
+     * @param tokenId 토큰 식별자 (jti)
+     * @param ttl     토큰 만료까지 남은 시간
+     * @return 토큰 만료 시각(ms), 이미 만료된 토큰이면 0
+     */
+    public long revokeLocally(String tokenId, Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            return 0;
+        }
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        revoked.put(tokenId, expiresAt);
+        return expiresAt;
+    }
+
+    /**
+     * 블랙리스트 등록 명령을 다른 명령과 같은 파이프라인에 쌓습니다. (로그아웃)
+     * Redis 명령만 쌓으며, 로컬 캐시는 revokeLocally로 미리 반영해 둡니다.
+     *
+     * @param redis     파이프라인 연결
+     * @param tokenId   토큰 식별자 (jti)
+     * @param expiresAt revokeLocally가 반환한 토큰 만료 시각(ms)
+     */
+    public void revoke(StringRedisConnection redis, String tokenId, long expiresAt) {
+        long now = System.currentTimeMillis();
+
+        redis.pSetEx(KEY_PREFIX + tokenId, Math.max(1, expiresAt - now), "logout");
+        redis.zAdd(RECENT_KEY, expiresAt, tokenId);
+        redis.zRemRangeByScore(RECENT_KEY, Double.NEGATIVE_INFINITY, now); // 만료된 항목 정리
+        redis.publish(CHANNEL, tokenId + "|" + expiresAt);
+    }
+
+    /**
+     * 블랙리스트에 등록된 토큰인지 확인합니다.
+     * 로컬 캐시가 최근에 동기화되었으면 Redis를 조회하지 않습니다.
+     * Redis도 응답하지 않으면(blacklist-check, 기본 fail-open) 로컬 캐시 결과만으로 판단합니다.
+     *
+     * @param tokenId 토큰 식별자 (jti)
+     * @return 로그아웃된 토큰이면 true
+     */
+    public boolean isRevoked(String tokenId) {
+        if (revoked.getIfPresent(tokenId) != null) {
+            return true;
+        }
+        if (isLocalCacheTrusted()) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisCircuitBreaker.execute("blacklist-check",
+                () -> stringRedisTemplate.hasKey(KEY_PREFIX + tokenId),
+                () -> false));
+    }
+
+    /**
+     * 다른 서버에서 발행한 로그아웃 메시지를 로컬 캐시에 반영합니다. (형식: "토큰 식별자|만료 시각")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = RedisSerializer.string().deserialize(message.getBody());
+        if (body == null) {
+            return;
+        }
+        int delimiter = body.lastIndexOf('|');
+        if (delimiter < 0) {
+            return;
+        }
+        try {
+            revoked.put(body.substring(0, delimiter), Long.parseLong(body.substring(delimiter + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 블랙리스트 메시지: {}", body);
+        }
+    }
+
+    /**
+     * 아직 만료되지 않은 로그아웃 목록 전체를 Redis에서 다시 읽어 로컬 캐시를 맞춥니다.
+     * 기동 직후와 resyncIntervalMs마다 실행됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${token-blacklist.resync-interval-ms:10000}", initialDelayString = "${token-blacklist.resync-interval-ms:10000}")
+    public void resync() {
+        if (!properties.isLocalCache()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            Set<ZSetOperations.TypedTuple<String>> entries = redisCircuitBreaker.execute("blacklist-resync",
+                    () -> stringRedisTemplate.opsForZSet().rangeByScoreWithScores(RECENT_KEY, now, Double.POSITIVE_INFINITY),
+                    () -> null);
+            if (entries == null) {
+                return; // Redis 장애: 마지막 동기화 시각을 갱신하지 않아 한 주기가 지나면 Redis 직접 조회로 전환
+            }
+            long evictionsBefore = sizeEvictions.get();
+            for (ZSetOperations.TypedTuple<String> entry : entries) {
+                if (entry.getValue() != null && entry.getScore() != null) {
+                    revoked.put(entry.getValue(), entry.getScore().longValue());
+                }
+            }
+            revoked.cleanUp(); // 밀려날 항목을 지금 정리해 아래 비교에 반영
+            if (sizeEvictions.get() != evictionsBefore) {
+                log.warn("블랙리스트 로컬 캐시 크기 초과 ({}건 > maximum-size {}), Redis 직접 조회로 전환", entries.size(), properties.getMaximumSize());
+                return;
+            }
+            lastSyncedAt = now;
+        } catch (RuntimeException e) {
+            log.warn("블랙리스트 재동기화 실패", e);
+        }
+    }
+
+    /**
+     * 로컬 캐시는 마지막 재동기화(조회 시작 시각) 후 한 주기 동안만 믿습니다.
+     * 재동기화 실행 시간만큼 다음 동기화와 사이가 벌어지며, 그동안은 Redis를 직접 조회합니다.
+     */
+    private boolean isLocalCacheTrusted() {
+        return properties.isLocalCache()
+                && lastSyncedAt > 0
+                && System.currentTimeMillis() - lastSyncedAt < properties.getResyncIntervalMs();
+    }
+}
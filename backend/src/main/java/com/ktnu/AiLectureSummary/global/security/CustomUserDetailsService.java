@@ -18,6 +18,7 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final PrincipalCache principalCache;
 
     /**
      * Spring Security로 Login을 구현하는 경우, AuthenticationManager.authenticate() 내부에서 사용됨
@@ -37,10 +38,15 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     /**
      * JWT 인증 필터에서 토큰 안의 ID로 유저 인증할 때 사용합니다.
+     * 요청마다 DB를 조회하지 않도록 PrincipalCache에 캐시된 정보를 먼저 사용합니다.
      * @param userId
      * @return UserDetails
      */
     public UserDetails loadUserById(Long userId) {
+        return principalCache.get(userId, this::loadMemberById);
+    }
+
+    private CustomUserDetails loadMemberById(Long userId) {
         Member member = memberRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. ID=" + userId));
         if (!member.isActive()) {
@@ -1,6 +1,7 @@
 package com.ktnu.AiLectureSummary.global.security;
 
 import com.ktnu.AiLectureSummary.util.CookieUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Optional;
 
 
 @Component
@@ -23,6 +25,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final AccessTokenBlacklist accessTokenBlacklist;
     private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     @Override
@@ -35,16 +38,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = CookieUtil.getCookieValue(request, "access_token").orElse(null);
 
         if (token != null) {
-            // 블랙리스트 확인
-            if (jwtProvider.isBlacklisted(token)) {
-                log.warn("차단된 access_token 요청: {}", token); // 로그 기록
+            // 서명/만료 검사와 클레임 추출을 한 번의 파싱으로 처리
+            Optional<Claims> claims = jwtProvider.parseAccessToken(token);
+
+            // 블랙리스트 확인 (로컬에 동기화된 목록 조회, 위조/만료 토큰은 확인하지 않음)
+            if (claims.isPresent() && accessTokenBlacklist.isRevoked(jwtProvider.getTokenId(claims.get(), token))) {
+                log.warn("차단된 access_token 요청: {}", claims.get().getId()); // 로그 기록
                 filterChain.doFilter(request, response); // 인증 없이 넘김 (Security 설정에 따라 인증 정보가 없어 403, 401 응답)
                 return;
             }
             // 유효성 검사
-            if (jwtProvider.validateAccessToken(token)) {
+            if (claims.isPresent()) {
                 // 토큰에서 사용자 ID 추출
-                Long userId = jwtProvider.getUserIdFromAccessToken(token);
+                Long userId = Long.parseLong(claims.get().getSubject());
 
                 // 해당 ID로 사용자 정보 조회 // 탈퇴 여부 검사 포함
                 CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserById(userId);
@@ -3,16 +3,22 @@ package com.ktnu.AiLectureSummary.global.security;
 import com.ktnu.AiLectureSummary.global.config.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.Jwts;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 /**
  * JWT 검증 및 파싱을 담당하는 유틸 클래스
@@ -21,15 +27,18 @@ import java.util.Date;
 public class JwtProvider {
 
 
-    private final StringRedisTemplate stringRedisTemplate;
     private final JwtProperties jwtProperties;
     private final Key key;
+    private final JwtParser jwtParser; // 불변 객체이므로 기동 시 한 번 만들어 모든 요청에서 재사용
+    private final SecureRandom secureRandom = new SecureRandom();
 
     // key 가공이 필요해 생성자 주입 직접 정의 // 생성자 1개로 @Autowired 생략
-    public JwtProvider(JwtProperties jwtProperties,StringRedisTemplate stringRedisTemplate){
+    public JwtProvider(JwtProperties jwtProperties){
         this.jwtProperties = jwtProperties;
         this.key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
-        this.stringRedisTemplate = stringRedisTemplate;
+        this.jwtParser = Jwts.parser()
+                .verifyWith((SecretKey) key)
+                .build();
     }
 
     /**
@@ -40,6 +49,7 @@ public class JwtProvider {
      */
     public  String generateAccessToken(Long userId){
         return Jwts.builder()
+                .id(newTokenId()) // Redis 키(블랙리스트)에 토큰 원문 대신 사용
                 .subject(String.valueOf(userId))
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis()+jwtProperties.getExpiration()))
@@ -57,6 +67,7 @@ public class JwtProvider {
         Instant expiry = now.plusMillis(jwtProperties.getRefreshExpiration());
 
         return Jwts.builder()
+                .id(newTokenId()) // Redis 키(refresh:)에 토큰 원문 대신 사용
                 .subject(String.valueOf(userId))
                 .claim("type", "refresh") // 토큰 타입 구분용 클레임 추가 + accessToken과 같은 키를 가지지 않기위해 꼭 필요
                 .issuedAt(Date.from(now))
@@ -65,65 +76,81 @@ public class JwtProvider {
                 .compact();
     }
 
-    public boolean isBlacklisted(String accessToken) {
-        String key = "blacklist:" + accessToken;
-        return stringRedisTemplate.hasKey(key);
+    /**
+     * 토큰 식별자(jti)를 생성합니다. (128bit 난수, base64url 22자)
+     */
+    private String newTokenId() {
+        byte[] bytes = new byte[16];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
-
     /**
-     * accessToken 유효성을 검사합니다.
-     * 시그니처 검증하고 만료 시간을 검사합니다.
-     * -> 서명 위조나 만료된 경우를 예외처리
-     * @param accessToken
-     * @return true | false (예외 발생시)
+     * Redis 키에 사용할 토큰 식별자를 반환합니다.
+     * jti가 없는 이전 형식의 토큰은 토큰의 SHA-256 해시(64자)를 사용합니다.
+     *
+     * @param claims 검증된 Claims
+     * @param token  토큰 원문
+     * @return 토큰 식별자
      */
-    public boolean validateAccessToken(String accessToken){
-        // 유효성 검사
-        try{
-            Jwts.parser()
-                    .verifyWith((SecretKey) key)
-                    .build()
-                    .parseSignedClaims(accessToken); // JWT의 서명과 만료 여부 등을 검사
-            return true; // 이상 없으면 유효한 토큰
+    public String getTokenId(Claims claims, String token) {
+        if (claims.getId() != null) {
+            return claims.getId();
         }
-        catch (JwtException | IllegalArgumentException e){
-            return false; // 파싱 실패하거나 서명 위조, 만료된 경우
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
     /**
-     * 전달받은 JWT 토큰을 파싱하여 Claims(클레임) 객체를 추출합니다.
-     * 그 중 subject(sub) 필드에 저장된 사용자 ID를 꺼내 Long 타입으로 변환합니다.
+     * 토큰을 검증하고 Redis 키에 사용할 토큰 식별자를 반환합니다.
      *
-     * @param accessToken
-     * @return 사용자의 id 정보
+     * @param token
+     * @return 토큰 식별자
      */
-    public Long getUserIdFromAccessToken(String accessToken){
-        Claims claims = Jwts.parser()
-                .verifyWith((SecretKey) key)
-                .build()
-                .parseSignedClaims(accessToken)
-                .getPayload();
-        return Long.parseLong(claims.getSubject());
+    public String getTokenId(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        return getTokenId(claims, token);
     }
 
+    /**
+     * refreshToken의 서명과 만료 시간을 검사하고, 검증된 Claims를 반환합니다.
+     *
+     * @param refreshToken
+     * @return 검증된 Claims (서명 위조, 만료, 형식 오류, refreshToken이 아닌 경우 empty)
+     */
+    public Optional<Claims> parseRefreshToken(String refreshToken) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(refreshToken).getPayload();
+            if (!"refresh".equals(claims.get("type", String.class))) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
 
     /**
-     * redis 블랙리스트에 등록하기 위해 만료시간까지 남은 시간(TTL)을 계산합니다.
+     * accessToken의 서명과 만료 시간을 한 번만 검사하고, 검증된 Claims를 반환합니다.
+     * 인증 필터는 이 메서드로 요청당 한 번만 파싱합니다.
+     * refreshToken(type=refresh)은 accessToken으로 사용할 수 없으므로 거절합니다.
      *
      * @param accessToken
-     * @return 남은 시간 반환
+     * @return 검증된 Claims (서명 위조, 만료, 형식 오류, refreshToken인 경우 empty)
      */
-    public long getExpiration(String accessToken) {
-        Claims claims = Jwts.parser()
-                .verifyWith((SecretKey) key)
-                .build()
-                .parseSignedClaims(accessToken)
-                .getPayload();
-
-        Date expiration = claims.getExpiration();
-        return expiration.getTime() - System.currentTimeMillis(); // 남은 시간 (ms)
-
+    public Optional<Claims> parseAccessToken(String accessToken) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(accessToken).getPayload();
+            if ("refresh".equals(claims.get("type", String.class))) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty(); // 파싱 실패하거나 서명 위조, 만료된 경우
+        }
     }
 }
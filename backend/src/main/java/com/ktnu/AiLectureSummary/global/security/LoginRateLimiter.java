@@ -0,0 +1,134 @@
+package com.ktnu.AiLectureSummary.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktnu.AiLectureSummary.global.config.RateLimitProperties;
+import com.ktnu.AiLectureSummary.global.exception.TooManyRequestsException;
+import com.ktnu.AiLectureSummary.global.redis.RedisCircuitBreaker;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/비밀번호 찾기 요청 제한 (IP별 + 이메일/IP별 토큰 버킷)
+ *
+ * BCrypt 검증(요청당 수십 ms CPU)이 실행되기 전에 검사하여, 대량 로그인 시도가 CPU를 모두 차지하지 않게 합니다.
+ * 이메일 버킷은 IP와 함께 묶으므로 이메일만 알면 누구나 그 계정의 로그인을 막을 수 있는 계정 잠금 공격에 쓰이지 않습니다.
+ * 요청 IP는 프록시 뒤에서도 클라이언트 IP가 되도록 server.forward-headers-strategy로 결정합니다.
+ * - 기본: Redis 버킷 (Lua 스크립트로 두 버킷을 원자적으로 검사/차감, 서버 간 공유)
+ * - Redis가 spring.data.redis.timeout 안에 응답하지 않거나 실패하면(서킷이 열린 동안 포함): 서버 로컬 버킷으로 판단 (서버별로 제한되므로 전체 허용량은 서버 수만큼 늘어남)
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String KEY_PREFIX = "rate:";
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/token-bucket.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RateLimitProperties properties;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final Cache<String, LocalBucket> localBuckets;
+
+    public LoginRateLimiter(StringRedisTemplate stringRedisTemplate,
+                            RateLimitProperties properties,
+                            RedisCircuitBreaker redisCircuitBreaker) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * 요청 하나를 허용할지 검사합니다.
+     *
+     * @param action   요청 종류 (login, password-verify)
+     * @param clientIp 요청 IP (프록시 뒤에서는 X-Forwarded-For로 확인한 클라이언트 IP)
+     * @param email    요청에 담긴 이메일
+     * @throws TooManyRequestsException IP 또는 이메일/IP 버킷이 비어 있는 경우
+     */
+    public void check(String action, String clientIp, String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String ipKey = KEY_PREFIX + action + ":ip:" + clientIp;
+        String emailKey = KEY_PREFIX + action + ":email:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT)) + ":" + clientIp;
+
+        long waitMillis = tryConsume(ipKey, emailKey);
+        if (waitMillis > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitMillis + 999));
+            throw new TooManyRequestsException("요청이 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해 주세요.", retryAfterSeconds);
+        }
+    }
+
+    private long tryConsume(String ipKey, String emailKey) {
+        Long waitMillis = redisCircuitBreaker.execute("rate-limit",
+                () -> stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT,
+                        List.of(ipKey, emailKey),
+                        String.valueOf(properties.getIpCapacity()),
+                        String.valueOf(properties.getIpRefillPerMinute() / 60),
+                        String.valueOf(properties.getEmailCapacity()),
+                        String.valueOf(properties.getEmailRefillPerMinute() / 60)),
+                () -> tryConsumeLocal(ipKey, emailKey));
+        return waitMillis != null ? waitMillis : tryConsumeLocal(ipKey, emailKey);
+    }
+
+    private long tryConsumeLocal(String ipKey, String emailKey) {
+        LocalBucket ipBucket = localBuckets.get(ipKey,
+                key -> new LocalBucket(properties.getIpCapacity(), properties.getIpRefillPerMinute() / 60_000));
+        LocalBucket emailBucket = localBuckets.get(emailKey,
+                key -> new LocalBucket(properties.getEmailCapacity(), properties.getEmailRefillPerMinute() / 60_000));
+
+        // 두 버킷 모두 남아 있을 때만 차감 (한쪽만 차감되지 않도록 순서를 고정해 함께 잠금)
+        LocalBucket first = ipKey.compareTo(emailKey) < 0 ? ipBucket : emailBucket;
+        LocalBucket second = first == ipBucket ? emailBucket : ipBucket;
+        synchronized (first) {
+            synchronized (second) {
+                long now = System.currentTimeMillis();
+                long wait = Math.max(ipBucket.waitMillis(now), emailBucket.waitMillis(now));
+                if (wait == 0) {
+                    ipBucket.consume();
+                    emailBucket.consume();
+                }
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * Redis를 사용할 수 없을 때의 서버 로컬 토큰 버킷 (token-bucket.lua와 같은 계산)
+     */
+    private static class LocalBucket {
+        private final int capacity;
+        private final double refillPerMilli;
+        private double tokens;
+        private long updatedAt;
+
+        LocalBucket(int capacity, double refillPerMilli) {
+            this.capacity = capacity;
+            this.refillPerMilli = refillPerMilli;
+            this.tokens = capacity;
+            this.updatedAt = System.currentTimeMillis();
+        }
+
+        // 충전 후 1개를 쓸 수 있을 때까지 남은 시간 (0이면 바로 사용 가능)
+        long waitMillis(long now) {
+            tokens = Math.min(capacity, tokens + Math.max(0, now - updatedAt) * refillPerMilli);
+            updatedAt = now;
+            return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / refillPerMilli);
+        }
+
+        void consume() {
+            tokens -= 1;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ktnu.AiLectureSummary.global.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 현재 서버에서 BCrypt 한 번이 목표 시간 안에 끝나는 가장 높은 cost(strength)를 측정합니다.
+ * cost가 1 오를 때마다 시간이 두 배가 되므로, 배포 서버의 CPU에 맞춰 기동 시 한 번 계산합니다.
+ */
+@Slf4j
+public final class PasswordHashingCalibrator {
+
+    public static final int MIN_STRENGTH = 10; // 보안상 하한 (Spring Security 기본값)
+    public static final int MAX_STRENGTH = 16;
+    private static final int SAMPLES = 2;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private PasswordHashingCalibrator() {
+    }
+
+    /**
+     * @param target 해싱 1회 목표 시간
+     * @return 목표 시간을 넘지 않는 가장 높은 strength (MIN_STRENGTH보다 느린 서버는 MIN_STRENGTH)
+     */
+    public static int calibrateBCryptStrength(Duration target) {
+        new BCryptPasswordEncoder(MIN_STRENGTH).encode(SAMPLE_PASSWORD); // JIT 준비
+
+        int chosen = MIN_STRENGTH;
+        for (int strength = MIN_STRENGTH; strength <= MAX_STRENGTH; strength++) {
+            long elapsedNanos = measure(strength);
+            log.info("BCrypt strength {}: {} ms", strength, elapsedNanos / 1_000_000);
+            if (elapsedNanos > target.toNanos()) {
+                break;
+            }
+            chosen = strength;
+        }
+        log.info("BCrypt strength {} 선택 (목표 {} ms)", chosen, target.toMillis());
+        return chosen;
+    }
+
+    // 측정값 중 가장 짧은 시간 (GC 등 일시적인 지연 제외)
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ktnu.AiLectureSummary.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktnu.AiLectureSummary.global.config.PrincipalCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Function;
+
+/**
+ * 사용자 ID별 인증 정보(CustomUserDetails)를 보관하는 크기 제한 + TTL 캐시
+ * JWT 검증이 끝난 요청마다 회원 테이블을 조회하지 않도록 JwtAuthenticationFilter에서 사용합니다.
+ * 적중/실패 수는 cache.gets{cache="principal"} 등 Micrometer 지표로 노출됩니다.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<Long, CustomUserDetails> cache;
+
+    public PrincipalCache(PrincipalCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal");
+    }
+
+    /**
+     * 캐시된 인증 정보를 반환하고, 없으면 loader로 조회해 저장합니다.
+     * loader에서 예외가 발생하면(탈퇴 회원 등) 캐시에 저장하지 않습니다.
+     */
+    public CustomUserDetails get(Long userId, Function<Long, CustomUserDetails> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * 회원 정보가 바뀌었을 때 캐시를 무효화합니다.
+     * 트랜잭션 중이면 커밋 이후에 무효화하여, 커밋 전의 값이 다시 캐시되지 않게 합니다.
+     */
+    public void evict(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.invalidate(userId);
+            }
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package com.ktnu.AiLectureSummary.global.security;
+
+import com.ktnu.AiLectureSummary.global.config.JwtProperties;
+import com.ktnu.AiLectureSummary.global.redis.RedisCircuitBreaker;
+import com.ktnu.AiLectureSummary.global.redis.RedisPipeline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * refreshToken 세션 저장소
+ *
+ * - refresh:{jti}       -> 회원 ID (TTL: refreshToken 만료 시간)
+ * - sessions:{memberId} -> 회원의 세션 jti 목록 (sorted set, 점수: 만료 시각)
+ * - refresh-used:{jti}  -> 이미 교체된 refreshToken의 교체 시각 (재사용 감지용, TTL: 기존 토큰의 남은 만료 시간)
+ *
+ * 회원별 세션 목록이 있으므로 비밀번호 재설정/탈퇴 시 Redis 전체를 SCAN 하지 않고 세션을 모두 폐기할 수 있습니다.
+ * Redis 장애 시 세션을 확인할 수 없으므로 모든 작업은 fail-closed(503)입니다. (refresh-session)
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String TOKEN_PREFIX = "refresh:";
+    private static final String SESSIONS_PREFIX = "sessions:";
+    private static final String USED_PREFIX = "refresh-used:";
+    private static final String OPERATION = "refresh-session";
+
+    // 세션 전체 폐기 함수 (아래 두 스크립트가 함께 사용)
+    private static final String REVOKE_ALL_SESSIONS_FUNCTION = loadScript("redis/revoke-all-sessions.lua");
+
+    // 조회-폐기-발급-재사용 감지를 서버에서 원자적으로 처리 (요청당 왕복 1회, 동시 요청에도 한 번만 교체됨)
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(REVOKE_ALL_SESSIONS_FUNCTION + "\n" + loadScript("redis/rotate-refresh-token.lua"), Long.class);
+
+    // 세션 목록 조회와 삭제를 서버에서 한 번에 처리 (왕복 1회)
+    private static final RedisScript<Long> REVOKE_ALL_SESSIONS_SCRIPT =
+            RedisScript.of(REVOKE_ALL_SESSIONS_FUNCTION + "\nreturn revoke_all_sessions(KEYS[1])\n", Long.class);
+
+    /**
+     * refreshToken 교체 결과
+     */
+    public enum RotationResult {
+        ROTATED,    // 교체 성공
+        CONCURRENT, // 유예 시간 안에 같은 토큰으로 들어온 동시 요청 (다른 탭 등) -> accessToken만 재발급
+        INVALID,    // 만료되었거나 폐기된 세션
+        REUSED      // 이미 교체된 토큰의 재사용 -> 회원의 모든 세션 폐기됨
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisPipeline redisPipeline;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * 새 세션을 저장합니다. (한 번의 파이프라인)
+     */
+    public void save(Long memberId, String tokenId) {
+        redisPipeline.execute(OPERATION, redis -> add(redis, memberId, tokenId));
+    }
+
+    /**
+     * 기존 세션을 폐기하고 새 세션으로 교체합니다. (Lua 스크립트 1회 실행)
+     * 이미 교체된 토큰이 유예 시간 이후 다시 사용되면 탈취된 것으로 보고 회원의 모든 세션을 폐기합니다.
+     */
+    public RotationResult rotate(Long memberId, String oldTokenId, String newTokenId) {
+        Long result = redisCircuitBreaker.execute(OPERATION, () -> stringRedisTemplate.execute(ROTATE_SCRIPT,
+                List.of(TOKEN_PREFIX + oldTokenId, SESSIONS_PREFIX + memberId, TOKEN_PREFIX + newTokenId, USED_PREFIX + oldTokenId),
+                oldTokenId,
+                newTokenId,
+                String.valueOf(memberId),
+                String.valueOf(jwtProperties.getRefreshExpiration()),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(jwtProperties.getRefreshReuseGrace())), null);
+
+        if (result == null) {
+            return RotationResult.INVALID;
+        }
+        return switch (result.intValue()) {
+            case 1 -> RotationResult.ROTATED;
+            case 2 -> RotationResult.CONCURRENT;
+            case -1 -> RotationResult.REUSED;
+            default -> RotationResult.INVALID;
+        };
+    }
+
+    /**
+     * 세션 하나를 폐기합니다. (로그아웃)
+     */
+    public void revoke(Long memberId, String tokenId) {
+        redisPipeline.execute(OPERATION, redis -> revoke(redis, memberId, tokenId));
+    }
+
+    /**
+     * 세션 폐기 명령을 다른 명령과 같은 파이프라인에 쌓습니다. (로그아웃)
+     */
+    public void revoke(StringRedisConnection redis, Long memberId, String tokenId) {
+        redis.del(TOKEN_PREFIX + tokenId);
+        redis.zRem(SESSIONS_PREFIX + memberId, tokenId);
+    }
+
+    /**
+     * 회원의 모든 세션을 폐기합니다. (비밀번호 재설정, 탈퇴)
+     * Lua 스크립트 1회 실행으로, 세션 수나 Redis 전체 키 수와 관계없이 왕복 횟수가 1회입니다.
+     */
+    public void revokeAllSessions(Long memberId) {
+        redisCircuitBreaker.execute(OPERATION, () -> stringRedisTemplate.execute(REVOKE_ALL_SESSIONS_SCRIPT,
+                List.of(SESSIONS_PREFIX + memberId)), null);
+    }
+
+    private void add(StringRedisConnection redis, Long memberId, String tokenId) {
+        long ttl = jwtProperties.getRefreshExpiration();
+        long now = System.currentTimeMillis();
+        String sessionsKey = SESSIONS_PREFIX + memberId;
+
+        redis.pSetEx(TOKEN_PREFIX + tokenId, ttl, String.valueOf(memberId));
+        redis.zAdd(sessionsKey, now + ttl, tokenId);
+        redis.zRemRangeByScore(sessionsKey, Double.NEGATIVE_INFINITY, now); // 만료된 세션 정리
+        redis.pExpire(sessionsKey, ttl); // 마지막 세션이 만료되면 목록도 함께 만료
+    }
+
+    private static String loadScript(String path) {
+        try {
+            return new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Redis 스크립트를 읽을 수 없습니다: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.ktnu.AiLectureSummary.infrastructure.adapter.export;
+
+import com.ktnu.AiLectureSummary.application.port.out.LectureExporter;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureDocumentView;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 강의 요약과 메모를 DOCX(Word)로 내보냅니다.
+ *
+ * 스타일/이미지가 없는 문서라 별도 라이브러리 없이 DOCX를 이루는 최소 파일 3개(ZIP)를 직접 씁니다.
+ * 본문(word/document.xml)은 문단 단위로 바로 내보내므로 문서 전체를 메모리에 모으지 않습니다.
+ */
+@Component
+@Order(4)
+public class DocxLectureExporter implements LectureExporter {
+
+    private static final MediaType DOCX =
+            MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+
+    private static final String CONTENT_TYPES = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+            + "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+            + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+            + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+            + "<Override PartName=\"/word/document.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml\"/>"
+            + "</Types>";
+
+    private static final String RELATIONSHIPS = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+            + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+            + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" Target=\"word/document.xml\"/>"
+            + "</Relationships>";
+
+    private static final int TITLE_SIZE = 32; // 반 포인트 단위 (16pt)
+    private static final int HEADING_SIZE = 26; // 13pt
+
+    @Override
+    public MediaType getMediaType() {
+        return DOCX;
+    }
+
+    @Override
+    public String getExtension() {
+        return "docx";
+    }
+
+    @Override
+    public void export(MemberLectureDocumentView lecture, OutputStream outputStream) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        Writer writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+
+        zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+        writer.write(CONTENT_TYPES);
+        writer.flush();
+        zip.closeEntry();
+
+        zip.putNextEntry(new ZipEntry("_rels/.rels"));
+        writer.write(RELATIONSHIPS);
+        writer.flush();
+        zip.closeEntry();
+
+        zip.putNextEntry(new ZipEntry("word/document.xml"));
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                + "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>");
+        heading(writer, lecture.getCustomTitle(), TITLE_SIZE);
+        section(writer, "AI 요약", lecture.getAiSummary());
+        section(writer, "원문", lecture.getOriginalText());
+        section(writer, "사용자 메모", lecture.getMemo() != null ? lecture.getMemo() : "(없음)");
+        writer.write("</w:body></w:document>");
+        writer.flush();
+        zip.closeEntry();
+
+        zip.finish(); // outputStream은 닫지 않음
+    }
+
+    private void section(Writer writer, String title, String text) throws IOException {
+        heading(writer, title, HEADING_SIZE);
+        // 줄마다 문단 하나
+        for (String line : (text != null ? text : "").split("\\R", -1)) {
+            writer.write("<w:p><w:r><w:t xml:space=\"preserve\">");
+            writer.write(escape(line));
+            writer.write("</w:t></w:r></w:p>");
+        }
+    }
+
+    private void heading(Writer writer, String text, int size) throws IOException {
+        writer.write("<w:p><w:r><w:rPr><w:b/><w:sz w:val=\"" + size + "\"/></w:rPr><w:t xml:space=\"preserve\">");
+        writer.write(escape(text != null ? text.replaceAll("\\R", " ") : ""));
+        writer.write("</w:t></w:r></w:p>");
+    }
+
+    // XML 특수 문자 이스케이프, XML에 쓸 수 없는 제어 문자는 제거
+    private String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                case '\t' -> escaped.append(c);
+                default -> {
+                    if (c >= 0x20) {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.ktnu.AiLectureSummary.infrastructure.adapter.export;
+
+import com.ktnu.AiLectureSummary.application.port.out.LectureExporter;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureDocumentView;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 강의 요약과 메모를 Markdown으로 내보냅니다. (노트 앱 가져오기용)
+ */
+@Component
+@Order(2)
+public class MarkdownLectureExporter implements LectureExporter {
+
+    private static final MediaType TEXT_MARKDOWN_UTF8 = new MediaType(MediaType.TEXT_MARKDOWN, StandardCharsets.UTF_8);
+
+    @Override
+    public MediaType getMediaType() {
+        return TEXT_MARKDOWN_UTF8;
+    }
+
+    @Override
+    public String getExtension() {
+        return "md";
+    }
+
+    @Override
+    public void export(MemberLectureDocumentView lecture, OutputStream outputStream) throws IOException {
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        writer.write("# " + singleLine(lecture.getCustomTitle()) + "\n\n");
+        writer.write("## AI 요약\n\n" + nullToEmpty(lecture.getAiSummary()) + "\n\n");
+        writer.write("## 원문\n\n" + nullToEmpty(lecture.getOriginalText()) + "\n\n");
+        writer.write("## 사용자 메모\n\n" + (lecture.getMemo() != null ? lecture.getMemo() : "(없음)") + "\n");
+        writer.flush(); // outputStream은 닫지 않음
+    }
+
+    // 제목 줄바꿈은 제목 밖으로 넘어가지 않도록 공백으로 바꿈
+    private String singleLine(String value) {
+        return nullToEmpty(value).replaceAll("\\R", " ");
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,82 @@
+package com.ktnu.AiLectureSummary.infrastructure.adapter.export;
+
+import com.ktnu.AiLectureSummary.application.port.out.LectureExporter;
+import com.ktnu.AiLectureSummary.global.exception.PdfGenerateFailException;
+import com.ktnu.AiLectureSummary.infrastructure.pdf.PdfFontRegistry;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureDocumentView;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+
+/**
+ * 강의 요약과 메모를 PDF로 내보냅니다. (OpenPDF)
+ * 생성 비용이 가장 큰 형식이라 결과를 캐시합니다.
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class PdfLectureExporter implements LectureExporter {
+
+    private static final float FONT_SIZE = 12;
+
+    private final PdfFontRegistry pdfFontRegistry;
+
+    @Override
+    public MediaType getMediaType() {
+        return MediaType.APPLICATION_PDF;
+    }
+
+    @Override
+    public String getExtension() {
+        return "pdf";
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    @Override
+    public void checkAvailable() {
+        pdfFontRegistry.newFont(FONT_SIZE);
+    }
+
+    /**
+     * PdfWriter는 페이지가 끝날 때마다 내용을 바로 내보내므로, 문서 전체를 메모리에 모으지 않습니다.
+     */
+    @Override
+    public void export(MemberLectureDocumentView lecture, OutputStream outputStream) {
+        Font font = pdfFontRegistry.newFont(FONT_SIZE);
+
+        // PDF 문서를 생성하고 내용을 추가합니다.
+        try {
+            Document document = new Document();
+            PdfWriter writer = PdfWriter.getInstance(document, outputStream);
+            writer.setCloseStream(false);
+
+            document.open();
+
+            document.add(new Paragraph("강의 제목: " + lecture.getCustomTitle(), font));
+            document.add(new Paragraph("\n"));
+            document.add(new Paragraph("AI 요약: " + lecture.getAiSummary(), font));
+            document.add(new Paragraph("\n"));
+            document.add(new Paragraph("원문: " + lecture.getOriginalText(), font));
+            document.add(new Paragraph("\n"));
+            document.add(new Paragraph("사용자 메모: " + (lecture.getMemo() != null ? lecture.getMemo() : "(없음)"), font));
+
+            document.close();
+
+            // PDF 생성 중 오류가 발생한 경우 예외를 처리
+        } catch (DocumentException e) {
+            throw new PdfGenerateFailException("PDF 생성 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.ktnu.AiLectureSummary.infrastructure.adapter.export;
+
+import com.ktnu.AiLectureSummary.application.port.out.LectureExporter;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureDocumentView;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 강의 요약과 메모를 일반 텍스트로 내보냅니다. (PDF와 같은 항목 구성)
+ */
+@Component
+@Order(3)
+public class PlainTextLectureExporter implements LectureExporter {
+
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    @Override
+    public MediaType getMediaType() {
+        return TEXT_PLAIN_UTF8;
+    }
+
+    @Override
+    public String getExtension() {
+        return "txt";
+    }
+
+    @Override
+    public void export(MemberLectureDocumentView lecture, OutputStream outputStream) throws IOException {
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        writer.write("강의 제목: " + lecture.getCustomTitle() + "\n\n");
+        writer.write("AI 요약:\n" + nullToEmpty(lecture.getAiSummary()) + "\n\n");
+        writer.write("원문:\n" + nullToEmpty(lecture.getOriginalText()) + "\n\n");
+        writer.write("사용자 메모:\n" + (lecture.getMemo() != null ? lecture.getMemo() : "(없음)") + "\n");
+        writer.flush(); // outputStream은 닫지 않음
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
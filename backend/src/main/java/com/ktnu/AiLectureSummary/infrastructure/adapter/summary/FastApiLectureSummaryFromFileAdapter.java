@@ -26,7 +26,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class FastApiLectureSummaryFromFileAdapter implements LectureSummaryFromFilePort {
 
-    private final RestTemplate restTemplate;
+    private final RestTemplate fastApiRestTemplate;
     private final FastApiProperties fastApiProperties;
 
     @Override
@@ -51,7 +51,7 @@ public class FastApiLectureSummaryFromFileAdapter implements LectureSummaryFromF
 
         // 동기식 처리로 FastAPI 요청 결과를 기다린 후 응답을 반환함
         try {
-            ResponseEntity<LectureSummaryResponse> response = restTemplate.exchange(
+            ResponseEntity<LectureSummaryResponse> response = fastApiRestTemplate.exchange(
                     fastApiProperties.getUrl() + "/api/summary",  // FastAPI 엔드포인트
                     HttpMethod.POST,
                     requestEntity,
@@ -21,7 +21,7 @@ import java.util.Map;
 @Component
 @RequiredArgsConstructor
 public class FastApiYoutubeSummaryAdapter implements YoutubeSummaryPort {
-    private final RestTemplate restTemplate;
+    private final RestTemplate fastApiRestTemplate;
     private final FastApiProperties fastApiProperties;
 
     @Override
@@ -38,7 +38,7 @@ public class FastApiYoutubeSummaryAdapter implements YoutubeSummaryPort {
             HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
 
             // 외부 FastAPI 서버에 POST 요청 전송
-            ResponseEntity<LectureSummaryResponse> response = restTemplate.exchange(
+            ResponseEntity<LectureSummaryResponse> response = fastApiRestTemplate.exchange(
                 fastApiProperties.getUrl() + "/api/youtubeSummary",
                 HttpMethod.POST,
                 requestEntity,
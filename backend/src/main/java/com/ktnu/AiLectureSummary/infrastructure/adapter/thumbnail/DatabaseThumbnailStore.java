@@ -0,0 +1,46 @@
+package com.ktnu.AiLectureSummary.infrastructure.adapter.thumbnail;
+
+import com.ktnu.AiLectureSummary.application.port.out.ThumbnailStore;
+import com.ktnu.AiLectureSummary.domain.LectureThumbnail;
+import com.ktnu.AiLectureSummary.repository.LectureThumbnailRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 썸네일을 lecture_thumbnail 테이블에 저장합니다.
+ * 컨테이너 디스크가 유지되지 않는 배포 환경이나, 파일 저장소로 옮기기 전 단계에서 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "thumbnail", name = "store", havingValue = "database")
+public class DatabaseThumbnailStore implements ThumbnailStore {
+
+    private final LectureThumbnailRepository lectureThumbnailRepository;
+
+    @Override
+    public void save(String key, byte[] image) {
+        if (lectureThumbnailRepository.existsById(key)) {
+            return; // 같은 키는 같은 내용
+        }
+        lectureThumbnailRepository.save(new LectureThumbnail(key, image));
+    }
+
+    @Override
+    public Optional<byte[]> load(String key) {
+        return lectureThumbnailRepository.findById(key).map(LectureThumbnail::getImage);
+    }
+
+    /**
+     * ThumbnailService는 강의 삭제가 커밋된 뒤(afterCommit)에 호출합니다.
+     * 그 시점의 트랜잭션은 이미 커밋되어 참여하면 삭제가 반영되지 않으므로 새 트랜잭션에서 삭제합니다.
+     */
+    @Override
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void delete(String key) {
+        lectureThumbnailRepository.deleteById(key);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ktnu.AiLectureSummary.infrastructure.adapter.thumbnail;
+
+import com.ktnu.AiLectureSummary.application.port.out.ThumbnailStore;
+import com.ktnu.AiLectureSummary.global.config.ThumbnailProperties;
+import com.ktnu.AiLectureSummary.global.exception.FileProcessingException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 썸네일을 로컬 디스크에 저장합니다.
+ * 한 디렉터리에 파일이 몰리지 않도록 키 앞 두 글자로 하위 디렉터리를 나눕니다. (ab/abcdef...)
+ */
+@Component
+@ConditionalOnProperty(prefix = "thumbnail", name = "store", havingValue = "filesystem", matchIfMissing = true)
+public class FileSystemThumbnailStore implements ThumbnailStore {
+
+    private final Path baseDir;
+
+    public FileSystemThumbnailStore(ThumbnailProperties thumbnailProperties) {
+        this.baseDir = Paths.get(thumbnailProperties.getStorageDir()).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void save(String key, byte[] image) {
+        Path target = resolve(key);
+        if (Files.exists(target)) {
+            return; // 같은 키는 같은 내용
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            // 임시 파일에 쓴 뒤 이동하여 읽는 쪽에서 쓰다 만 파일을 보지 않게 함
+            Path tempFile = Files.createTempFile(target.getParent(), key, ".tmp");
+            Files.write(tempFile, image);
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new FileProcessingException("썸네일 저장 실패", e);
+        }
+    }
+
+    @Override
+    public Optional<byte[]> load(String key) {
+        try {
+            return Optional.of(Files.readAllBytes(resolve(key)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new FileProcessingException("썸네일 조회 실패", e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new FileProcessingException("썸네일 삭제 실패", e);
+        }
+    }
+
+    private Path resolve(String key) {
+        return baseDir.resolve(key.substring(0, 2)).resolve(key);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ktnu.AiLectureSummary.infrastructure.adapter.thumbnail;
+
+import com.ktnu.AiLectureSummary.application.service.ThumbnailService;
+import com.ktnu.AiLectureSummary.global.config.ThumbnailProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 lecture.thumbnail 컬럼에 남아 있는 기존 썸네일을 썸네일 저장소로 옮깁니다.
+ * 강의 하나씩 짧은 트랜잭션으로 처리하며, 모두 옮긴 뒤에는 조회 한 번으로 끝납니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "thumbnail", name = "migrate-legacy", havingValue = "true", matchIfMissing = true)
+public class LegacyThumbnailMigrationRunner implements ApplicationRunner {
+
+    private final ThumbnailService thumbnailService;
+    private final ThumbnailProperties thumbnailProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int migrated = 0;
+        try {
+            List<Long> lectureIds;
+            while (!(lectureIds = thumbnailService.findLegacyThumbnailLectureIds(thumbnailProperties.getMigrationBatchSize())).isEmpty()) {
+                for (Long lectureId : lectureIds) {
+                    thumbnailService.migrateLegacyThumbnail(lectureId);
+                    migrated++;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 옮기지 못한 강의는 다음 기동 시 다시 시도 (기존 컬럼 값은 그대로 남아 있음)
+            log.warn("기존 썸네일 이동 중단 - 이동 완료: {}건", migrated, e);
+            return;
+        }
+        if (migrated > 0) {
+            log.info("기존 썸네일 {}건을 썸네일 저장소로 이동", migrated);
+        }
+    }
+}
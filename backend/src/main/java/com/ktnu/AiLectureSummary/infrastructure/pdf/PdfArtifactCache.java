@@ -0,0 +1,233 @@
+package com.ktnu.AiLectureSummary.infrastructure.pdf;
+
+import com.ktnu.AiLectureSummary.global.config.PdfProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 생성한 PDF를 로컬 디스크에 캐시합니다. ({cacheDir}/{memberLectureId}/{버전}.pdf)
+ *
+ * 버전은 MemberLecture의 문서 내용 버전이라 같은 키의 내용은 바뀌지 않으며, 새 버전을 저장할 때 이전 버전 파일은 삭제됩니다.
+ * 캐시는 성능을 위한 것이므로 디스크 오류가 나도 예외를 던지지 않고 캐시 없이 동작합니다.
+ */
+@Slf4j
+@Component
+public class PdfArtifactCache {
+
+    private static final String EXTENSION = ".pdf";
+
+    private final Path baseDir;
+    private final boolean enabled;
+
+    public PdfArtifactCache(PdfProperties pdfProperties) {
+        this.baseDir = Paths.get(pdfProperties.getCacheDir()).toAbsolutePath().normalize();
+        this.enabled = pdfProperties.isCacheEnabled();
+    }
+
+    /**
+     * PDF를 생성하는 작업 (출력 스트림에 문서를 씀)
+     */
+    @FunctionalInterface
+    public interface PdfRenderer {
+        void render(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * 캐시된 PDF가 있으면 outputStream에 복사합니다.
+     *
+     * @return 캐시에서 응답했으면 true, 캐시가 없으면 false
+     */
+    public boolean copyTo(Long memberLectureId, String version, OutputStream outputStream) throws IOException {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            Files.copy(resolve(memberLectureId, version), outputStream);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * PDF를 outputStream과 캐시 파일에 동시에 씁니다. (응답은 생성과 동시에 스트리밍)
+     * 생성이 끝까지 성공한 경우에만 캐시 파일로 옮기므로, 중간에 실패한 문서는 캐시되지 않습니다.
+     */
+    public void writeThrough(Long memberLectureId, String version, OutputStream outputStream, PdfRenderer renderer) throws IOException {
+        Path tempFile = enabled ? createTempFile(memberLectureId) : null;
+        if (tempFile == null) {
+            renderer.render(outputStream);
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            try (OutputStream fileStream = Files.newOutputStream(tempFile)) {
+                renderer.render(new TeeOutputStream(outputStream, fileStream));
+            }
+            completed = true;
+        } finally {
+            if (completed) {
+                commit(memberLectureId, version, tempFile);
+            } else {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * 캐시된 PDF가 있는지 확인합니다. (일괄 내보내기에서 강의 원문을 조회할 대상을 고를 때 사용)
+     * 확인한 뒤 파일이 삭제될 수 있으므로, 읽을 때는 open으로 다시 확인해야 합니다.
+     */
+    public boolean contains(Long memberLectureId, String version) {
+        return enabled && Files.isRegularFile(resolve(memberLectureId, version));
+    }
+
+    /**
+     * 캐시된 PDF를 읽기 위해 엽니다. 없으면 생성해 캐시한 뒤 엽니다. (일괄 내보내기용)
+     * 파일을 먼저 열어 두므로, 읽는 동안 새 버전이 저장되어 파일이 삭제되어도 끝까지 읽을 수 있습니다.
+     * 캐시를 사용하지 않으면 닫을 때 삭제되는 임시 파일에 생성합니다.
+     *
+     * @param renderer 캐시가 없을 때 PDF를 생성하는 작업 (캐시가 있으면 호출되지 않음)
+     */
+    public InputStream open(Long memberLectureId, String version, PdfRenderer renderer) throws IOException {
+        if (enabled) {
+            try {
+                return Files.newInputStream(resolve(memberLectureId, version));
+            } catch (NoSuchFileException e) {
+                // 캐시 없음 -> 생성
+            }
+        }
+
+        Path tempFile = enabled ? createTempFile(memberLectureId) : null;
+        boolean cacheable = tempFile != null;
+        if (!cacheable) {
+            tempFile = Files.createTempFile("lecture-", ".pdf");
+        }
+
+        InputStream inputStream = null;
+        try {
+            try (OutputStream fileStream = Files.newOutputStream(tempFile)) {
+                renderer.render(fileStream);
+            }
+            if (!cacheable) {
+                return Files.newInputStream(tempFile, StandardOpenOption.DELETE_ON_CLOSE);
+            }
+            inputStream = Files.newInputStream(tempFile);
+            commit(memberLectureId, version, tempFile); // 열린 파일은 옮겨져도 계속 읽을 수 있음
+            return inputStream;
+        } catch (IOException | RuntimeException e) {
+            if (inputStream != null) {
+                inputStream.close();
+            }
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * 강의의 캐시된 PDF를 모두 삭제합니다. (트랜잭션 안이면 커밋 후)
+     */
+    public void evict(Long memberLectureId) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete(memberLectureId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delete(memberLectureId);
+            }
+        });
+    }
+
+    private Path createTempFile(Long memberLectureId) {
+        try {
+            Path dir = baseDir.resolve(String.valueOf(memberLectureId));
+            Files.createDirectories(dir);
+            return Files.createTempFile(dir, "render-", ".tmp");
+        } catch (IOException e) {
+            log.warn("PDF 캐시 파일 생성 실패, 캐시 없이 생성합니다. memberLectureId={}", memberLectureId, e);
+            return null;
+        }
+    }
+
+    // 임시 파일을 캐시 파일로 옮기고(읽는 쪽에서 쓰다 만 파일을 보지 않게 함) 이전 버전 파일을 삭제
+    private void commit(Long memberLectureId, String version, Path tempFile) {
+        Path target = resolve(memberLectureId, version);
+        try {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(target.getParent(), "*" + EXTENSION)) {
+                for (Path file : files) {
+                    if (!file.equals(target)) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("PDF 캐시 저장 실패. memberLectureId={}", memberLectureId, e);
+            tempFile.toFile().delete(); // 옮기지 못한 임시 파일 정리 (이미 옮겨졌으면 아무 일도 하지 않음)
+        }
+    }
+
+    private void delete(Long memberLectureId) {
+        try {
+            FileSystemUtils.deleteRecursively(baseDir.resolve(String.valueOf(memberLectureId)));
+        } catch (IOException e) {
+            log.warn("PDF 캐시 삭제 실패. memberLectureId={}", memberLectureId, e);
+        }
+    }
+
+    private Path resolve(Long memberLectureId, String version) {
+        return baseDir.resolve(String.valueOf(memberLectureId)).resolve(version + EXTENSION);
+    }
+
+    /**
+     * 응답 스트림과 캐시 파일에 같은 내용을 씁니다.
+     * 응답 스트림은 닫지 않습니다. (호출한 쪽에서 관리)
+     */
+    private static class TeeOutputStream extends OutputStream {
+        private final OutputStream first;
+        private final OutputStream second;
+
+        TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+    }
+}
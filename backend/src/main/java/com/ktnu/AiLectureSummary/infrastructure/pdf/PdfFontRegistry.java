@@ -0,0 +1,57 @@
+package com.ktnu.AiLectureSummary.infrastructure.pdf;
+
+import com.ktnu.AiLectureSummary.global.config.PdfProperties;
+import com.ktnu.AiLectureSummary.global.exception.PdfGenerateFailException;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.pdf.BaseFont;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * PDF용 한글 폰트(NanumGothic)를 기동 시 한 번만 읽어 두고 모든 요청에서 공유합니다.
+ *
+ * BaseFont는 폰트 파일의 글리프/메트릭 정보만 가지고 있고, 문서별로 사용된 글자 목록은 각 PdfWriter가 따로 관리하므로
+ * 여러 스레드에서 동시에 써도 안전합니다.
+ * 서브셋(pdf.font-subset)을 켜면 문서에 사용된 글자만 폰트에 포함되어 PDF 크기가 크게 줄어듭니다.
+ */
+@Slf4j
+@Component
+public class PdfFontRegistry {
+
+    private final BaseFont baseFont; // 폰트 파일이 없으면 null (PDF 생성 시 예외)
+
+    public PdfFontRegistry(PdfProperties pdfProperties) {
+        this.baseFont = load(pdfProperties);
+    }
+
+    /**
+     * 문서에 사용할 폰트를 만듭니다.
+     * Font는 스타일을 바꿀 수 있는 객체라 문서마다 새로 만들고, 무거운 BaseFont만 공유합니다.
+     */
+    public Font newFont(float size) {
+        if (baseFont == null) {
+            throw new PdfGenerateFailException("폰트 파일을 찾을 수 없습니다.");
+        }
+        return new Font(baseFont, size);
+    }
+
+    private BaseFont load(PdfProperties pdfProperties) {
+        String fontPath = pdfProperties.getFontPath();
+        try (InputStream fontStream = getClass().getClassLoader().getResourceAsStream(fontPath)) {
+            if (fontStream == null) {
+                log.warn("PDF 폰트 파일을 찾을 수 없습니다. PDF 생성이 실패합니다. path={}", fontPath);
+                return null;
+            }
+            byte[] fontBytes = fontStream.readAllBytes();
+            BaseFont font = BaseFont.createFont(fontPath, BaseFont.IDENTITY_H, BaseFont.EMBEDDED, false, fontBytes, null);
+            font.setSubset(pdfProperties.isFontSubset());
+            return font;
+        } catch (IOException | DocumentException e) {
+            throw new PdfGenerateFailException("폰트 로딩 중 오류 발생", e);
+        }
+    }
+}
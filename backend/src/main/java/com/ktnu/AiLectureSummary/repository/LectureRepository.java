@@ -1,9 +1,12 @@
 package com.ktnu.AiLectureSummary.repository;
 
 import com.ktnu.AiLectureSummary.domain.Lecture;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +15,11 @@ public interface LectureRepository extends JpaRepository<Lecture, Long> {
     Optional<Lecture> findByHash(String hash);
 
     Optional<Lecture> findByYoutubeUrl(String hash);
+
+    // 썸네일을 아직 lecture.thumbnail 컬럼에 가지고 있는 강의 ID (저장소로 이동 대상)
+    @Query("select l.id from Lecture l where l.thumbnail is not null order by l.id")
+    List<Long> findIdsWithLegacyThumbnail(Pageable pageable);
+
+    // 같은 썸네일 키를 쓰는 강의 수 (내용이 같은 썸네일은 키를 공유)
+    long countByThumbnailKey(String thumbnailKey);
 }
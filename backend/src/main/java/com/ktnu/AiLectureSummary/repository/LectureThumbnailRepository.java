@@ -0,0 +1,9 @@
+package com.ktnu.AiLectureSummary.repository;
+
+import com.ktnu.AiLectureSummary.domain.LectureThumbnail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LectureThumbnailRepository extends JpaRepository<LectureThumbnail, String> {
+}
@@ -3,10 +3,20 @@ package com.ktnu.AiLectureSummary.repository;
 import com.ktnu.AiLectureSummary.domain.Lecture;
 import com.ktnu.AiLectureSummary.domain.Member;
 import com.ktnu.AiLectureSummary.domain.MemberLecture;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureDocumentView;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureExportView;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureListItemView;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureStatsView;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureVersionView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +30,85 @@ public interface MemberLectureRepository extends JpaRepository<MemberLecture, Lo
     @EntityGraph(attributePaths = "lecture") // 연관된 Lecture 엔티티도 함꼐 한 번에 가져와 N+1 문제 해결
     List<MemberLecture> findAllByMember_Id(Long memberId);
 
+    // 대시보드 목록 조회 // 목록에 필요한 컬럼만 조회 (강의 원문/요약 TEXT 컬럼은 읽지 않음)
+    @Query("select ml.id as id, l.id as lectureId, ml.customTitle as customTitle, l.duration as duration, " +
+            "ml.enrolledAt as enrolledAt, l.youtubeUrl as youtubeUrl, l.thumbnailKey as thumbnailKey " +
+            "from MemberLecture ml join ml.lecture l where ml.member.id = :memberId")
+    List<MemberLectureListItemView> findListItemsByMemberId(@Param("memberId") Long memberId);
+
+    // 대시보드 페이지 조회 (keyset) // 등록일 최신순, 커서(등록일, id) 이후 목록 // (member_id, enrolled_at, id) 인덱스 사용
+    @Query("select ml.id as id, l.id as lectureId, ml.customTitle as customTitle, l.duration as duration, " +
+            "ml.enrolledAt as enrolledAt, l.youtubeUrl as youtubeUrl, l.thumbnailKey as thumbnailKey " +
+            "from MemberLecture ml join ml.lecture l where ml.member.id = :memberId " +
+            "and (ml.enrolledAt < :enrolledAt or (ml.enrolledAt = :enrolledAt and ml.id < :id)) " +
+            "order by ml.enrolledAt desc, ml.id desc")
+    List<MemberLectureListItemView> findPageOrderByEnrolledAt(@Param("memberId") Long memberId,
+                                                              @Param("enrolledAt") LocalDateTime enrolledAt,
+                                                              @Param("id") Long id,
+                                                              Pageable pageable);
+
+    // 대시보드 페이지 조회 (keyset) // 제목 오름차순, 커서(제목, id) 이후 목록 // (member_id, custom_title, id) 인덱스 사용
+    @Query("select ml.id as id, l.id as lectureId, ml.customTitle as customTitle, l.duration as duration, " +
+            "ml.enrolledAt as enrolledAt, l.youtubeUrl as youtubeUrl, l.thumbnailKey as thumbnailKey " +
+            "from MemberLecture ml join ml.lecture l where ml.member.id = :memberId " +
+            "and (ml.customTitle > :customTitle or (ml.customTitle = :customTitle and ml.id > :id)) " +
+            "order by ml.customTitle asc, ml.id asc")
+    List<MemberLectureListItemView> findPageOrderByCustomTitle(@Param("memberId") Long memberId,
+                                                               @Param("customTitle") String customTitle,
+                                                               @Param("id") Long id,
+                                                               Pageable pageable);
+
+    // 대시보드 페이지 조회 (keyset) // 영상 길이 긴 순, 커서(길이, id) 이후 목록
+    // 길이는 lecture 테이블 컬럼이라 인덱스로 정렬할 수 없지만, OFFSET 없이 페이지 크기만큼만 반환
+    @Query("select ml.id as id, l.id as lectureId, ml.customTitle as customTitle, l.duration as duration, " +
+            "ml.enrolledAt as enrolledAt, l.youtubeUrl as youtubeUrl, l.thumbnailKey as thumbnailKey " +
+            "from MemberLecture ml join ml.lecture l where ml.member.id = :memberId " +
+            "and (l.duration < :duration or (l.duration = :duration and ml.id < :id)) " +
+            "order by l.duration desc, ml.id desc")
+    List<MemberLectureListItemView> findPageOrderByDuration(@Param("memberId") Long memberId,
+                                                            @Param("duration") Long duration,
+                                                            @Param("id") Long id,
+                                                            Pageable pageable);
+
+    // 사용자의 강의 수와 총 영상 길이를 한 번의 집계 쿼리로 조회
+    @Query("select count(ml.id) as lectureCount, coalesce(sum(l.duration), 0) as totalDuration " +
+            "from MemberLecture ml join ml.lecture l where ml.member.id = :memberId")
+    MemberLectureStatsView findStatsByMemberId(@Param("memberId") Long memberId);
+
     // 해당 강의가 어떤 회원에게라도 등록되어 있는지 확인 (참조 유무 확인)
     boolean existsByLecture(Lecture lecture);
 
     // 특정 회원이 특정 강의를 등록했는지 여부 확인
     boolean existsByMember_IdAndLecture(Long memberId, Lecture lecture);
+
+    // 사용자가 등록한 강의의 썸네일 키 조회 (썸네일이 없거나 등록하지 않은 강의면 empty)
+    @Query("select l.thumbnailKey from MemberLecture ml join ml.lecture l where ml.member.id = :memberId and l.id = :lectureId")
+    Optional<String> findThumbnailKey(@Param("memberId") Long memberId, @Param("lectureId") Long lectureId);
+
+    // 문서 내용 버전 조회 (ETag/캐시 확인용, 강의 원문/요약 TEXT 컬럼은 읽지 않음)
+    @Query("select ml.id as id, ml.contentVersion as contentVersion from MemberLecture ml " +
+            "where ml.member.id = :memberId and ml.lecture.id = :lectureId")
+    Optional<MemberLectureVersionView> findVersion(@Param("memberId") Long memberId, @Param("lectureId") Long lectureId);
+
+    // 내보낼 강의 목록 (등록순) // 목록만 한 번에 조회하고 강의 원문/요약은 생성할 때 나누어 조회
+    @Query("select ml.id as id, l.id as lectureId, ml.customTitle as customTitle, ml.contentVersion as contentVersion " +
+            "from MemberLecture ml join ml.lecture l where ml.member.id = :memberId order by ml.enrolledAt asc, ml.id asc")
+    List<MemberLectureExportView> findExportTargets(@Param("memberId") Long memberId);
+
+    @Query("select ml.id as id, l.id as lectureId, ml.customTitle as customTitle, ml.contentVersion as contentVersion " +
+            "from MemberLecture ml join ml.lecture l where ml.member.id = :memberId and l.id in :lectureIds " +
+            "order by ml.enrolledAt asc, ml.id asc")
+    List<MemberLectureExportView> findExportTargets(@Param("memberId") Long memberId, @Param("lectureIds") Collection<Long> lectureIds);
+
+    // 문서 내보내기용 내용 조회 (모든 내보내기 형식이 같은 projection 사용)
+    @Query("select ml.id as id, l.id as lectureId, ml.customTitle as customTitle, l.aiSummary as aiSummary, " +
+            "l.originalText as originalText, ml.memo as memo, ml.contentVersion as contentVersion " +
+            "from MemberLecture ml join ml.lecture l where ml.member.id = :memberId and l.id = :lectureId")
+    Optional<MemberLectureDocumentView> findDocument(@Param("memberId") Long memberId, @Param("lectureId") Long lectureId);
+
+    // 여러 사용자 강의의 문서 내용을 한 번의 쿼리로 조회
+    @Query("select ml.id as id, l.id as lectureId, ml.customTitle as customTitle, l.aiSummary as aiSummary, " +
+            "l.originalText as originalText, ml.memo as memo, ml.contentVersion as contentVersion " +
+            "from MemberLecture ml join ml.lecture l where ml.id in :ids")
+    List<MemberLectureDocumentView> findDocumentsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,13 @@
+package com.ktnu.AiLectureSummary.repository;
+
+import com.ktnu.AiLectureSummary.domain.SummaryJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SummaryJobRepository extends JpaRepository<SummaryJob, Long> {
+    // 본인이 요청한 작업만 조회
+    Optional<SummaryJob> findByIdAndMemberId(Long id, Long memberId);
+}
@@ -0,0 +1,20 @@
+package com.ktnu.AiLectureSummary.repository.projection;
+
+/**
+ * 문서 내보내기(PDF, Markdown 등)에 필요한 사용자 강의 내용
+ */
+public interface MemberLectureDocumentView {
+    Long getId();
+
+    Long getLectureId();
+
+    String getCustomTitle();
+
+    String getAiSummary();
+
+    String getOriginalText();
+
+    String getMemo();
+
+    long getContentVersion();
+}
@@ -0,0 +1,14 @@
+package com.ktnu.AiLectureSummary.repository.projection;
+
+/**
+ * 내보낼 사용자 강의 목록 항목 (강의 원문/요약 TEXT 컬럼 제외)
+ */
+public interface MemberLectureExportView {
+    Long getId();
+
+    Long getLectureId();
+
+    String getCustomTitle();
+
+    long getContentVersion();
+}
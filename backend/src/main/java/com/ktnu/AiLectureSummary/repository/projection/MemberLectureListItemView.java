@@ -0,0 +1,23 @@
+package com.ktnu.AiLectureSummary.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 강의 목록 조회용 프로젝션
+ * 목록에 필요한 컬럼만 조회하며, Lecture의 TEXT 컬럼(originalText, aiSummary)은 읽지 않습니다.
+ */
+public interface MemberLectureListItemView {
+    Long getId(); // MemberLecture ID // 페이지 커서에 사용
+
+    Long getLectureId();
+
+    String getCustomTitle();
+
+    Long getDuration();
+
+    LocalDateTime getEnrolledAt();
+
+    String getYoutubeUrl();
+
+    String getThumbnailKey();
+}
@@ -0,0 +1,10 @@
+package com.ktnu.AiLectureSummary.repository.projection;
+
+/**
+ * 사용자의 강의 수와 총 영상 길이 집계 결과
+ */
+public interface MemberLectureStatsView {
+    Long getLectureCount();
+
+    Long getTotalDuration();
+}
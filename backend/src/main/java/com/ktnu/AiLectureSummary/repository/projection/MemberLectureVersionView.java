@@ -0,0 +1,10 @@
+package com.ktnu.AiLectureSummary.repository.projection;
+
+/**
+ * 사용자 강의의 문서 내용 버전
+ */
+public interface MemberLectureVersionView {
+    Long getId();
+
+    long getContentVersion();
+}
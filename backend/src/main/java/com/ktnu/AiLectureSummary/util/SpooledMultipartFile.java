@@ -0,0 +1,133 @@
+package com.ktnu.AiLectureSummary.util;
+
+import com.ktnu.AiLectureSummary.global.exception.FileProcessingException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 요청 스레드가 끝난 뒤에도 사용할 수 있도록 임시 파일로 옮겨 둔 MultipartFile
+ *
+ * 서블릿 컨테이너는 요청이 끝나면 multipart 임시 파일을 삭제하므로,
+ * 비동기 요약 작업에서는 이 클래스로 감싼 파일을 사용하고 작업 종료 후 delete()를 호출해야 합니다.
+ *
+ * 임시 파일로 복사하는 동안 DigestInputStream으로 SHA-256 해시를 함께 계산하므로,
+ * 중복 검사를 위해 파일을 다시 읽을 필요가 없습니다. (파일은 FastAPI 전송 시 한 번만 다시 읽힘)
+ */
+public class SpooledMultipartFile implements MultipartFile {
+    private final Path path;
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final long size;
+    private final String mediaHash; // 복사하면서 계산한 SHA-256 해시 (Base64)
+
+    private SpooledMultipartFile(Path path, String name, String originalFilename, String contentType, long size, String mediaHash) {
+        this.path = path;
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+        this.mediaHash = mediaHash;
+    }
+
+    /**
+     * 업로드된 파일을 임시 파일로 복사하면서 SHA-256 해시를 계산합니다. (한 번의 읽기로 복사 + 해싱)
+     *
+     * @param file 요청으로 전달된 파일
+     * @return 임시 파일 기반 MultipartFile
+     */
+    public static SpooledMultipartFile spool(MultipartFile file) {
+        Path spoolFile = null;
+        try {
+            spoolFile = Files.createTempFile("lecture-", ".upload");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            // 읽은 바이트가 임시 파일에 쓰이는 동시에 해시 계산에 누적됨
+            try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(inputStream, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String mediaHash = Base64.getEncoder().encodeToString(digest.digest());
+            return new SpooledMultipartFile(spoolFile, file.getName(), file.getOriginalFilename(), file.getContentType(), file.getSize(), mediaHash);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            deleteQuietly(spoolFile);
+            throw new FileProcessingException("업로드 파일 임시 저장 실패", e);
+        }
+    }
+
+    /**
+     * 임시 파일로 복사하면서 계산한 미디어 해시를 반환합니다.
+     * 강의 중복 판단에 쓰이는 해시(SHA-256, Base64)입니다.
+     */
+    public String getMediaHash() {
+        return mediaHash;
+    }
+
+    /**
+     * 임시 파일을 삭제합니다. 작업이 끝나면 반드시 호출합니다.
+     */
+    public void delete() {
+        deleteQuietly(path);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 디렉터리 파일이므로 삭제 실패는 무시
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.copy(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -1,14 +1,62 @@
 package com.ktnu.AiLectureSummary.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HexFormat;
 
 public class ThumbnailUtil {
-    public static String encodeBase64ThumbnailSafe(byte[] thumbnail) {
-        return thumbnail != null ? Base64.getEncoder().encodeToString(thumbnail) : null;
-    }
-
     public static byte[] decodeBase64ThumbnailSafe(String thumbnail) {
         return thumbnail != null ? Base64.getDecoder().decode(thumbnail) : null;
     }
 
+    /**
+     * 썸네일 저장소 키를 생성합니다. 이미지 내용의 SHA-256 해시(hex)이며 ETag로도 사용됩니다.
+     */
+    public static String thumbnailKey(byte[] image) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(image));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 썸네일 조회 URL을 반환합니다. 썸네일이 없으면 null을 반환합니다.
+     * 이미지가 바뀌면 키가 바뀌므로 키를 쿼리 파라미터로 붙여 브라우저가 오래 캐시할 수 있게 합니다.
+     */
+    public static String thumbnailUrl(Long lectureId, String thumbnailKey) {
+        if (thumbnailKey == null) {
+            return null;
+        }
+        return "/api/thumbnails/" + lectureId + "?v=" + thumbnailKey.substring(0, 16);
+    }
+
+    /**
+     * 이미지 시그니처(매직 넘버)로 Content-Type을 판별합니다. 알 수 없으면 image/png로 간주합니다.
+     */
+    public static String detectContentType(byte[] image) {
+        if (startsWith(image, 0, new byte[]{(byte) 0x89, 'P', 'N', 'G'})) {
+            return "image/png";
+        }
+        if (startsWith(image, 0, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})) {
+            return "image/jpeg";
+        }
+        if (startsWith(image, 0, "RIFF".getBytes(StandardCharsets.US_ASCII))
+                && startsWith(image, 8, "WEBP".getBytes(StandardCharsets.US_ASCII))) {
+            return "image/webp";
+        }
+        if (startsWith(image, 0, "GIF8".getBytes(StandardCharsets.US_ASCII))) {
+            return "image/gif";
+        }
+        return "image/png";
+    }
+
+    private static boolean startsWith(byte[] image, int offset, byte[] signature) {
+        return image.length >= offset + signature.length
+                && Arrays.equals(image, offset, offset + signature.length, signature, 0, signature.length);
+    }
+
 }
@@ -0,0 +1,14 @@
+-- 회원의 모든 refreshToken 세션 폐기
+-- 함수만 정의하며, RefreshTokenStore가 이 파일을 다음 스크립트 앞에 붙여 함께 실행함
+-- - RefreshTokenStore.revokeAllSessions: return revoke_all_sessions(KEYS[1])   (KEYS[1] sessions:{memberId})
+-- - rotate-refresh-token.lua: 재사용 감지 시 호출
+-- 반환: 폐기한 세션 수
+
+local function revoke_all_sessions(sessions_key)
+    local sessions = redis.call('ZRANGE', sessions_key, 0, -1)
+    for _, id in ipairs(sessions) do
+        redis.call('DEL', 'refresh:' .. id)
+    end
+    redis.call('DEL', sessions_key)
+    return #sessions
+end
@@ -0,0 +1,41 @@
+-- refreshToken 교체 + 재사용 감지 (RefreshTokenStore.rotate)
+-- KEYS[1] refresh:{기존 jti}       KEYS[2] sessions:{memberId}
+-- KEYS[3] refresh:{새 jti}         KEYS[4] refresh-used:{기존 jti}
+-- ARGV[1] 기존 jti  ARGV[2] 새 jti  ARGV[3] memberId  ARGV[4] refresh TTL(ms)  ARGV[5] 현재 시각(ms)  ARGV[6] 동시 요청 허용 시간(ms)
+-- 반환: 1 교체 성공, 2 유예 시간 안의 동시 요청, 0 유효하지 않음, -1 재사용 감지(회원의 모든 세션 폐기)
+-- revoke-all-sessions.lua 뒤에 이어 붙여 실행됨 (revoke_all_sessions 함수 사용)
+
+local ttl = tonumber(ARGV[4])
+local now = tonumber(ARGV[5])
+
+local owner = redis.call('GET', KEYS[1])
+if not owner then
+    local rotatedAt = redis.call('GET', KEYS[4])
+    if not rotatedAt then
+        return 0
+    end
+    if now - tonumber(rotatedAt) <= tonumber(ARGV[6]) then
+        return 2
+    end
+    -- 이미 교체된 토큰이 다시 사용됨 -> 탈취로 보고 세션 전체 폐기
+    revoke_all_sessions(KEYS[2])
+    redis.call('DEL', KEYS[4])
+    return -1
+end
+if owner ~= ARGV[3] then
+    return 0
+end
+
+-- 기존 토큰이 만료될 때까지만 교체 기록을 남김
+local remaining = redis.call('PTTL', KEYS[1])
+redis.call('DEL', KEYS[1])
+redis.call('ZREM', KEYS[2], ARGV[1])
+if remaining > 0 then
+    redis.call('SET', KEYS[4], ARGV[5], 'PX', remaining)
+end
+
+redis.call('SET', KEYS[3], ARGV[3], 'PX', ttl)
+redis.call('ZADD', KEYS[2], now + ttl, ARGV[2])
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+redis.call('PEXPIRE', KEYS[2], ttl)
+return 1
@@ -0,0 +1,35 @@
+-- 토큰 버킷 여러 개를 한 번에 검사하고 모두 남아 있을 때만 1개씩 차감 (LoginRateLimiter)
+-- KEYS[i]   버킷 키 (해시: tokens, ts)
+-- ARGV[2i-1] 버킷 용량  ARGV[2i] 초당 충전량
+-- 반환: 0 허용, 양수 다시 시도할 수 있을 때까지 남은 시간(ms)
+
+-- 서버마다 시계가 다를 수 있으므로 Redis 시각 사용
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local tokens = {}
+local wait = 0
+for i = 1, #KEYS do
+    local capacity = tonumber(ARGV[2 * i - 1])
+    local rate = tonumber(ARGV[2 * i]) / 1000 -- ms당 충전량
+    local bucket = redis.call('HMGET', KEYS[i], 'tokens', 'ts')
+    local current = tonumber(bucket[1]) or capacity
+    local ts = tonumber(bucket[2]) or now
+    current = math.min(capacity, current + math.max(0, now - ts) * rate)
+    tokens[i] = current
+    if current < 1 then
+        wait = math.max(wait, math.ceil((1 - current) / rate))
+    end
+end
+
+for i = 1, #KEYS do
+    local capacity = tonumber(ARGV[2 * i - 1])
+    local rate = tonumber(ARGV[2 * i]) / 1000
+    local current = tokens[i]
+    if wait == 0 then
+        current = current - 1
+    end
+    redis.call('HSET', KEYS[i], 'tokens', tostring(current), 'ts', tostring(now))
+    redis.call('PEXPIRE', KEYS[i], math.ceil(capacity / rate)) -- 가득 찰 때까지 요청이 없으면 삭제
+end
+return wait
@@ -0,0 +1,83 @@
+package com.ktnu.AiLectureSummary.concurrency;
+
+import com.ktnu.AiLectureSummary.global.concurrency.LocalSingleFlight;
+import com.ktnu.AiLectureSummary.global.exception.ExternalApiException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalSingleFlightTest {
+
+    private final LocalSingleFlight singleFlight = new LocalSingleFlight();
+
+    @Test
+    void 동일키_동시요청_한번만실행() throws Exception {
+        // given // 첫 요청의 작업이 끝나지 않은 상태에서 같은 키로 요청이 몰림
+        int requests = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("hash:abc", () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "lecture-1";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 1; i < requests; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("hash:abc", () -> {
+                    executions.incrementAndGet();
+                    return "duplicated";
+                })));
+            }
+
+            // when
+            Thread.sleep(100); // 대기 요청들이 진행 중인 작업에 합류할 시간
+            release.countDown();
+
+            // then // 작업은 한 번만 실행되고 모든 요청이 같은 결과를 받음
+            assertEquals("lecture-1", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("lecture-1", follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 작업완료후_같은키_재실행() {
+        // 진행 중인 작업이 없으면 같은 키라도 다시 실행됨 (결과를 캐시하지 않음)
+        assertEquals("first", singleFlight.execute("youtube:url", () -> "first"));
+        assertEquals("second", singleFlight.execute("youtube:url", () -> "second"));
+    }
+
+    @Test
+    void 작업실패시_예외전달() {
+        assertThrows(ExternalApiException.class, () -> singleFlight.execute("hash:fail", () -> {
+            throw new ExternalApiException("FastAPI 응답 오류");
+        }));
+
+        // 실패한 작업은 맵에서 제거되어 다음 요청이 다시 실행할 수 있음
+        assertEquals("retry", singleFlight.execute("hash:fail", () -> "retry"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ktnu.AiLectureSummary.export;
+
+import com.ktnu.AiLectureSummary.infrastructure.adapter.export.DocxLectureExporter;
+import com.ktnu.AiLectureSummary.infrastructure.adapter.export.MarkdownLectureExporter;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureDocumentView;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LectureExporterTest {
+
+    @Test
+    void Markdown_항목구성() throws IOException {
+        // given
+        MemberLectureDocumentView document = document("자료구조\n1강", "요약", "원문", null);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        new MarkdownLectureExporter().export(document, outputStream);
+
+        // then // 제목 줄바꿈은 공백으로, 메모가 없으면 (없음)
+        assertEquals("# 자료구조 1강\n\n## AI 요약\n\n요약\n\n## 원문\n\n원문\n\n## 사용자 메모\n\n(없음)\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void DOCX_최소구성과XML이스케이프() throws IOException {
+        // given
+        MemberLectureDocumentView document = document("A & B", "x < y\n둘째 줄", "원문\u0001", "메모");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        new DocxLectureExporter().export(document, outputStream);
+
+        // then
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(3, entries.size());
+        assertTrue(entries.containsKey("[Content_Types].xml"));
+        assertTrue(entries.containsKey("_rels/.rels"));
+        String body = entries.get("word/document.xml");
+        assertTrue(body.contains("A &amp; B"));
+        assertTrue(body.contains("x &lt; y</w:t></w:r></w:p><w:p><w:r><w:t xml:space=\"preserve\">둘째 줄")); // 줄마다 문단
+        assertFalse(body.contains("\u0001")); // XML에 쓸 수 없는 제어 문자 제거
+    }
+
+    private static MemberLectureDocumentView document(String customTitle, String aiSummary, String originalText, String memo) {
+        MemberLectureDocumentView document = mock(MemberLectureDocumentView.class);
+        when(document.getCustomTitle()).thenReturn(customTitle);
+        when(document.getAiSummary()).thenReturn(aiSummary);
+        when(document.getOriginalText()).thenReturn(originalText);
+        when(document.getMemo()).thenReturn(memo);
+        return document;
+    }
+}
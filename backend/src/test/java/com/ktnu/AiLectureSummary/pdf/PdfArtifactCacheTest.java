@@ -0,0 +1,80 @@
+package com.ktnu.AiLectureSummary.pdf;
+
+import com.ktnu.AiLectureSummary.global.config.PdfProperties;
+import com.ktnu.AiLectureSummary.infrastructure.pdf.PdfArtifactCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdfArtifactCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private PdfArtifactCache pdfArtifactCache;
+
+    @BeforeEach
+    void setUp() {
+        PdfProperties properties = new PdfProperties();
+        properties.setCacheDir(cacheDir.toString());
+        pdfArtifactCache = new PdfArtifactCache(properties);
+    }
+
+    @Test
+    void 생성하면서응답_이후캐시에서복사() throws IOException {
+        // given
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+
+        // when
+        pdfArtifactCache.writeThrough(1L, "0-1", response, out -> out.write(bytes("pdf-v0")));
+
+        // then // 응답과 캐시에 같은 내용
+        assertEquals("pdf-v0", response.toString(StandardCharsets.UTF_8));
+        ByteArrayOutputStream cached = new ByteArrayOutputStream();
+        assertTrue(pdfArtifactCache.copyTo(1L, "0-1", cached));
+        assertEquals("pdf-v0", cached.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void 새버전저장_이전버전삭제() throws IOException {
+        // given
+        pdfArtifactCache.writeThrough(1L, "0-1", new ByteArrayOutputStream(), out -> out.write(bytes("pdf-v0")));
+
+        // when
+        pdfArtifactCache.writeThrough(1L, "1-1", new ByteArrayOutputStream(), out -> out.write(bytes("pdf-v1")));
+
+        // then // 강의별로 최신 버전 파일 하나만 남음
+        assertFalse(pdfArtifactCache.copyTo(1L, "0-1", new ByteArrayOutputStream()));
+        assertTrue(pdfArtifactCache.copyTo(1L, "1-1", new ByteArrayOutputStream()));
+        try (var files = Files.list(cacheDir.resolve("1"))) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void 생성실패_캐시하지않음() throws IOException {
+        // when
+        assertThrows(IOException.class, () -> pdfArtifactCache.writeThrough(1L, "0-1", new ByteArrayOutputStream(), out -> {
+            out.write(bytes("partial"));
+            throw new IOException("client aborted");
+        }));
+
+        // then // 쓰다 만 문서나 임시 파일이 남지 않음
+        assertFalse(pdfArtifactCache.copyTo(1L, "0-1", new ByteArrayOutputStream()));
+        try (var files = Files.list(cacheDir.resolve("1"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,92 @@
+package com.ktnu.AiLectureSummary.redis;
+
+import com.ktnu.AiLectureSummary.global.config.RedisCircuitProperties;
+import com.ktnu.AiLectureSummary.global.exception.RedisUnavailableException;
+import com.ktnu.AiLectureSummary.global.redis.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisCircuitBreakerTest {
+
+    private RedisCircuitBreaker redisCircuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        RedisCircuitProperties properties = new RedisCircuitProperties();
+        properties.setFailureThreshold(2);
+        properties.setOpenDuration(Duration.ofMillis(200));
+        properties.setSlowCallThreshold(Duration.ofMillis(100));
+        properties.setFailOpen(Set.of("open-op"));
+
+        redisCircuitBreaker = new RedisCircuitBreaker(properties);
+    }
+
+    private String fail() {
+        throw new RedisConnectionFailureException("down");
+    }
+
+    @Test
+    void 실패_정책별처리() {
+        // when & then // fail-open 작업은 대체 동작, fail-closed 작업은 503 예외
+        assertEquals("fallback", redisCircuitBreaker.execute("open-op", this::fail, () -> "fallback"));
+        assertThrows(RedisUnavailableException.class, () -> redisCircuitBreaker.execute("closed-op", this::fail, () -> "fallback"));
+    }
+
+    @Test
+    void 느린응답_결과사용_실패로집계() {
+        // when // Redis 응답이 slowCallThreshold(100ms)보다 늦음
+        String result = redisCircuitBreaker.execute("open-op", () -> {
+            try {
+                Thread.sleep(150);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "redis";
+        }, () -> "fallback");
+
+        // then // 받은 결과는 그대로 쓰고 연속 실패로 집계
+        assertEquals("redis", result);
+        assertEquals(1, redisCircuitBreaker.getConsecutiveFailures());
+    }
+
+    @Test
+    void 연속실패_서킷열림_이후Redis호출안함() {
+        // given // 연속 2회 실패
+        redisCircuitBreaker.execute("open-op", this::fail, () -> "fallback");
+        redisCircuitBreaker.execute("open-op", this::fail, () -> "fallback");
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = redisCircuitBreaker.execute("open-op", () -> {
+            calls.incrementAndGet();
+            return "redis";
+        }, () -> "fallback");
+
+        // then
+        assertEquals(RedisCircuitBreaker.State.OPEN, redisCircuitBreaker.getState());
+        assertEquals("fallback", result);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void 열림시간이후_성공하면닫힘() throws InterruptedException {
+        // given
+        redisCircuitBreaker.execute("open-op", this::fail, () -> "fallback");
+        redisCircuitBreaker.execute("open-op", this::fail, () -> "fallback");
+        Thread.sleep(250);
+
+        // when // HALF_OPEN 시험 요청 성공
+        String result = redisCircuitBreaker.execute("open-op", () -> "redis", () -> "fallback");
+
+        // then
+        assertEquals("redis", result);
+        assertEquals(RedisCircuitBreaker.State.CLOSED, redisCircuitBreaker.getState());
+    }
+}
@@ -0,0 +1,142 @@
+package com.ktnu.AiLectureSummary.security;
+
+import com.ktnu.AiLectureSummary.global.config.RedisCircuitProperties;
+import com.ktnu.AiLectureSummary.global.config.TokenBlacklistProperties;
+import com.ktnu.AiLectureSummary.global.redis.RedisCircuitBreaker;
+import com.ktnu.AiLectureSummary.global.redis.RedisPipeline;
+import com.ktnu.AiLectureSummary.global.security.AccessTokenBlacklist;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AccessTokenBlacklistTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ZSetOperations<String, String> zSetOps;
+    private RedisCircuitBreaker redisCircuitBreaker;
+    private AccessTokenBlacklist accessTokenBlacklist;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        zSetOps = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOps);
+
+        redisCircuitBreaker = new RedisCircuitBreaker(new RedisCircuitProperties());
+
+        accessTokenBlacklist = new AccessTokenBlacklist(stringRedisTemplate, new RedisPipeline(stringRedisTemplate, redisCircuitBreaker),
+                redisCircuitBreaker, new TokenBlacklistProperties());
+    }
+
+    @Test
+    void 동기화전_Redis조회() {
+        // given // 아직 재동기화 전이라 로컬 캐시를 믿을 수 없음
+        when(stringRedisTemplate.hasKey("blacklist:token-id")).thenReturn(true);
+
+        // when & then
+        assertTrue(accessTokenBlacklist.isRevoked("token-id"));
+    }
+
+    @Test
+    void 동기화후_로컬캐시만조회() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        when(zSetOps.rangeByScoreWithScores(eq("blacklist:recent"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of(new DefaultTypedTuple<>("revoked-id", (double) expiresAt)));
+
+        // when
+        accessTokenBlacklist.resync();
+
+        // then // 동기화된 목록으로만 판단하고 Redis는 조회하지 않음
+        assertTrue(accessTokenBlacklist.isRevoked("revoked-id"));
+        assertFalse(accessTokenBlacklist.isRevoked("other-id"));
+        verify(stringRedisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void 동기화후한주기경과_Redis조회() throws InterruptedException {
+        // given // 재동기화 주기 50ms, 이후 재동기화가 실행되지 않음(Redis 장애 등)
+        TokenBlacklistProperties properties = new TokenBlacklistProperties();
+        properties.setResyncIntervalMs(50);
+        AccessTokenBlacklist shortBlacklist = new AccessTokenBlacklist(stringRedisTemplate,
+                new RedisPipeline(stringRedisTemplate, redisCircuitBreaker), redisCircuitBreaker, properties);
+        when(zSetOps.rangeByScoreWithScores(eq("blacklist:recent"), anyDouble(), anyDouble())).thenReturn(Set.of());
+        when(stringRedisTemplate.hasKey("blacklist:missed-id")).thenReturn(true);
+        shortBlacklist.resync();
+
+        // when // 한 주기가 지남
+        Thread.sleep(80);
+
+        // then // 놓친 로그아웃도 Redis 조회로 차단됨
+        assertTrue(shortBlacklist.isRevoked("missed-id"));
+    }
+
+    @Test
+    void 다른서버메시지_로컬캐시반영() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        byte[] body = ("token-id|" + expiresAt).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        accessTokenBlacklist.onMessage(new DefaultMessage(AccessTokenBlacklist.CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        assertTrue(accessTokenBlacklist.isRevoked("token-id"));
+        verify(stringRedisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void 서킷열림_로그아웃_로컬캐시등록() {
+        // given // Redis 장애로 연속 실패해 서킷이 열림
+        when(stringRedisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        for (int i = 0; i < new RedisCircuitProperties().getFailureThreshold(); i++) {
+            accessTokenBlacklist.isRevoked("other-id");
+        }
+        assertEquals(RedisCircuitBreaker.State.OPEN, redisCircuitBreaker.getState());
+
+        // when // 파이프라인은 실행되지 않고 대체 동작(빈 목록)으로 끝남
+        accessTokenBlacklist.revoke("token-id", Duration.ofMinutes(1));
+
+        // then // 이 서버에서는 로그아웃한 토큰이 바로 차단됨
+        assertTrue(accessTokenBlacklist.isRevoked("token-id"));
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void 크기초과_로컬캐시불신_Redis조회() {
+        // given // 로그아웃 목록이 로컬 캐시 최대 크기보다 많음
+        TokenBlacklistProperties properties = new TokenBlacklistProperties();
+        properties.setMaximumSize(2);
+        AccessTokenBlacklist smallBlacklist = new AccessTokenBlacklist(stringRedisTemplate,
+                new RedisPipeline(stringRedisTemplate, redisCircuitBreaker), redisCircuitBreaker, properties);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        when(zSetOps.rangeByScoreWithScores(eq("blacklist:recent"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of(
+                        new DefaultTypedTuple<>("id-1", (double) expiresAt),
+                        new DefaultTypedTuple<>("id-2", (double) expiresAt),
+                        new DefaultTypedTuple<>("id-3", (double) expiresAt)));
+        when(stringRedisTemplate.hasKey(startsWith("blacklist:id-"))).thenReturn(true);
+
+        // when
+        smallBlacklist.resync();
+
+        // then // 밀려난 항목도 Redis 조회로 차단됨
+        assertTrue(smallBlacklist.isRevoked("id-1"));
+        assertTrue(smallBlacklist.isRevoked("id-2"));
+        assertTrue(smallBlacklist.isRevoked("id-3"));
+        verify(stringRedisTemplate, atLeastOnce()).hasKey(anyString());
+    }
+}
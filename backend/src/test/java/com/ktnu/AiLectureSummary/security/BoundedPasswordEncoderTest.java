@@ -0,0 +1,78 @@
+package com.ktnu.AiLectureSummary.security;
+
+import com.ktnu.AiLectureSummary.global.config.PasswordHashingProperties;
+import com.ktnu.AiLectureSummary.global.exception.PasswordHashingRejectedException;
+import com.ktnu.AiLectureSummary.global.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordEncoder delegate;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        delegate = mock(PasswordEncoder.class);
+
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        passwordEncoder = new BoundedPasswordEncoder(delegate, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void 해싱_위임() {
+        // given
+        when(delegate.encode("password")).thenReturn("encoded");
+        when(delegate.matches("password", "encoded")).thenReturn(true);
+
+        // when & then
+        assertEquals("encoded", passwordEncoder.encode("password"));
+        assertTrue(passwordEncoder.matches("password", "encoded"));
+    }
+
+    @Test
+    void 풀포화_즉시거절() throws Exception {
+        // given // 실행 중 1개 + 대기열 1개로 풀을 가득 채움
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("a"));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("b"));
+        while (meterRegistry.get("executor.queued").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        // when & then // 세 번째 요청은 기다리지 않고 거절
+        assertThrows(PasswordHashingRejectedException.class, () -> passwordEncoder.encode("c"));
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("encoded", running.get(1, TimeUnit.SECONDS));
+        assertEquals("encoded", queued.get(1, TimeUnit.SECONDS));
+    }
+}
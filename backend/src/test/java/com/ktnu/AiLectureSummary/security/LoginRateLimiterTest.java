@@ -0,0 +1,103 @@
+package com.ktnu.AiLectureSummary.security;
+
+import com.ktnu.AiLectureSummary.global.config.RateLimitProperties;
+import com.ktnu.AiLectureSummary.global.config.RedisCircuitProperties;
+import com.ktnu.AiLectureSummary.global.exception.TooManyRequestsException;
+import com.ktnu.AiLectureSummary.global.redis.RedisCircuitBreaker;
+import com.ktnu.AiLectureSummary.global.security.LoginRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LoginRateLimiterTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private RateLimitProperties properties;
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        properties = new RateLimitProperties();
+        properties.setEmailCapacity(3);
+
+        loginRateLimiter = new LoginRateLimiter(stringRedisTemplate, properties, new RedisCircuitBreaker(new RedisCircuitProperties()));
+    }
+
+    @Test
+    void Redis버킷비어있음_429() {
+        // given // Redis 스크립트가 대기 시간 1500ms 반환
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1500L);
+
+        // when
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> loginRateLimiter.check("login", "1.2.3.4", "test@example.com"));
+
+        // then // Retry-After는 초 단위 올림
+        assertEquals(2, e.getRetryAfterSeconds());
+    }
+
+    @Test
+    void Redis장애_로컬버킷으로제한() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when // 이메일/IP 버킷 용량(3)까지는 허용
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> loginRateLimiter.check("login", "1.2.3.4", "Test@example.com"));
+        }
+
+        // then // 대소문자만 다른 같은 이메일도 같은 버킷
+        assertThrows(TooManyRequestsException.class,
+                () -> loginRateLimiter.check("login", "1.2.3.4", "test@example.com"));
+        // 다른 이메일은 영향 없음
+        assertDoesNotThrow(() -> loginRateLimiter.check("login", "1.2.3.4", "other@example.com"));
+    }
+
+    @Test
+    void 비활성화_검사안함() {
+        // given
+        properties.setEnabled(false);
+
+        // when & then
+        assertDoesNotThrow(() -> loginRateLimiter.check("login", "1.2.3.4", "test@example.com"));
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), any(List.class), any(Object[].class));
+    }
+
+    @Test
+    void 다른IP에서같은이메일_계정잠금되지않음() {
+        // given // 공격자가 피해자의 이메일로 이메일 버킷 용량만큼 요청
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        for (int i = 0; i < 3; i++) {
+            loginRateLimiter.check("login", "6.6.6.6", "victim@example.com");
+        }
+        assertThrows(TooManyRequestsException.class,
+                () -> loginRateLimiter.check("login", "6.6.6.6", "victim@example.com"));
+
+        // when & then // 피해자는 자신의 IP에서 계속 로그인 가능
+        assertDoesNotThrow(() -> loginRateLimiter.check("login", "1.2.3.4", "victim@example.com"));
+    }
+
+    @Test
+    void Redis버킷키_이메일과IP함께사용() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+
+        // when
+        loginRateLimiter.check("login", "1.2.3.4", "Test@example.com");
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+                eq(List.of("rate:login:ip:1.2.3.4", "rate:login:email:test@example.com:1.2.3.4")), any(Object[].class));
+    }
+}
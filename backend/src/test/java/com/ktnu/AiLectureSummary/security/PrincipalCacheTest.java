@@ -0,0 +1,69 @@
+package com.ktnu.AiLectureSummary.security;
+
+import com.ktnu.AiLectureSummary.domain.Member;
+import com.ktnu.AiLectureSummary.global.config.PrincipalCacheProperties;
+import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
+import com.ktnu.AiLectureSummary.global.security.PrincipalCache;
+import com.ktnu.AiLectureSummary.support.TestFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(new PrincipalCacheProperties(), meterRegistry);
+        member = TestFixture.mockMember();
+    }
+
+    @Test
+    void 캐시적중_DB조회한번() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when // 같은 ID로 두 번 조회
+        principalCache.get(member.getId(), id -> {
+            loads.incrementAndGet();
+            return new CustomUserDetails(member);
+        });
+        CustomUserDetails cached = principalCache.get(member.getId(), id -> {
+            loads.incrementAndGet();
+            return new CustomUserDetails(member);
+        });
+
+        // then
+        assertEquals(1, loads.get());
+        assertEquals(member.getEmail(), cached.getEmail());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principal").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void 무효화후_다시조회() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        principalCache.get(member.getId(), id -> {
+            loads.incrementAndGet();
+            return new CustomUserDetails(member);
+        });
+
+        // when // 트랜잭션 밖에서는 즉시 무효화
+        principalCache.evict(member.getId());
+        principalCache.get(member.getId(), id -> {
+            loads.incrementAndGet();
+            return new CustomUserDetails(member);
+        });
+
+        // then
+        assertEquals(2, loads.get());
+    }
+}
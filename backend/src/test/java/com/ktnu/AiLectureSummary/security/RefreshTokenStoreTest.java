@@ -0,0 +1,49 @@
+package com.ktnu.AiLectureSummary.security;
+
+import com.ktnu.AiLectureSummary.global.config.JwtProperties;
+import com.ktnu.AiLectureSummary.global.config.RedisCircuitProperties;
+import com.ktnu.AiLectureSummary.global.redis.RedisCircuitBreaker;
+import com.ktnu.AiLectureSummary.global.redis.RedisPipeline;
+import com.ktnu.AiLectureSummary.global.security.RefreshTokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenStoreTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+
+        RedisCircuitBreaker redisCircuitBreaker = new RedisCircuitBreaker(new RedisCircuitProperties());
+
+        refreshTokenStore = new RefreshTokenStore(stringRedisTemplate, new RedisPipeline(stringRedisTemplate, redisCircuitBreaker),
+                redisCircuitBreaker, new JwtProperties());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 전체세션폐기_스크립트1회실행() {
+        // when
+        refreshTokenStore.revokeAllSessions(1L);
+
+        // then // 세션 목록 조회와 삭제를 한 번의 스크립트 실행으로 처리
+        ArgumentCaptor<RedisScript<Long>> script = ArgumentCaptor.forClass(RedisScript.class);
+        verify(stringRedisTemplate, times(1)).execute(script.capture(), eq(List.of("sessions:1")));
+        assertTrue(script.getValue().getScriptAsString().contains("local function revoke_all_sessions"));
+        verify(stringRedisTemplate, never()).opsForZSet();
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+}
@@ -0,0 +1,62 @@
+package com.ktnu.AiLectureSummary.service;
+
+import com.ktnu.AiLectureSummary.application.port.out.LectureExporter;
+import com.ktnu.AiLectureSummary.application.service.LectureDocumentService;
+import com.ktnu.AiLectureSummary.global.exception.ExportFormatNotSupportedException;
+import com.ktnu.AiLectureSummary.infrastructure.adapter.export.DocxLectureExporter;
+import com.ktnu.AiLectureSummary.infrastructure.adapter.export.MarkdownLectureExporter;
+import com.ktnu.AiLectureSummary.infrastructure.adapter.export.PdfLectureExporter;
+import com.ktnu.AiLectureSummary.infrastructure.adapter.export.PlainTextLectureExporter;
+import com.ktnu.AiLectureSummary.infrastructure.pdf.PdfArtifactCache;
+import com.ktnu.AiLectureSummary.infrastructure.pdf.PdfFontRegistry;
+import com.ktnu.AiLectureSummary.repository.MemberLectureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LectureDocumentServiceTest {
+
+    private LectureDocumentService lectureDocumentService;
+
+    @BeforeEach
+    void setUp() {
+        List<LectureExporter> exporters = List.of(new PdfLectureExporter(mock(PdfFontRegistry.class)),
+                new MarkdownLectureExporter(), new PlainTextLectureExporter(), new DocxLectureExporter());
+        lectureDocumentService = new LectureDocumentService(mock(MemberLectureRepository.class), mock(PdfArtifactCache.class), exporters);
+    }
+
+    @Test
+    void Accept없음_PDF() {
+        assertEquals("pdf", lectureDocumentService.selectExporter(null, List.of()).getExtension());
+        assertEquals("pdf", lectureDocumentService.selectExporter(null, MediaType.parseMediaTypes("*/*")).getExtension());
+    }
+
+    @Test
+    void Accept품질값순서로선택() {
+        // given // PDF보다 Markdown을 선호
+        List<MediaType> accepted = MediaType.parseMediaTypes("application/pdf;q=0.5, text/markdown");
+
+        // when & then
+        assertEquals("md", lectureDocumentService.selectExporter(null, accepted).getExtension());
+        // text/* 는 첫 번째 텍스트 형식 (Markdown)
+        assertEquals("md", lectureDocumentService.selectExporter(null, MediaType.parseMediaTypes("text/*")).getExtension());
+    }
+
+    @Test
+    void format파라미터_Accept보다우선() {
+        assertEquals("txt", lectureDocumentService.selectExporter("TXT", MediaType.parseMediaTypes("application/pdf")).getExtension());
+    }
+
+    @Test
+    void 지원하지않는형식_406() {
+        assertThrows(ExportFormatNotSupportedException.class,
+                () -> lectureDocumentService.selectExporter(null, MediaType.parseMediaTypes("image/png")));
+        assertThrows(ExportFormatNotSupportedException.class,
+                () -> lectureDocumentService.selectExporter("hwp", List.of()));
+    }
+}
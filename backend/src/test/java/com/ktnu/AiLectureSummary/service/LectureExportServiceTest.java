@@ -0,0 +1,227 @@
+package com.ktnu.AiLectureSummary.service;
+
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.request.LectureExportFormat;
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.request.LectureExportRequest;
+import com.ktnu.AiLectureSummary.application.dto.memberLecture.response.LectureExportResponse;
+import com.ktnu.AiLectureSummary.application.port.out.LectureExporter;
+import com.ktnu.AiLectureSummary.application.service.LectureDocumentService;
+import com.ktnu.AiLectureSummary.application.service.LectureExportService;
+import com.ktnu.AiLectureSummary.global.config.PdfProperties;
+import com.ktnu.AiLectureSummary.global.exception.LectureNotFoundException;
+import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
+import com.ktnu.AiLectureSummary.infrastructure.pdf.PdfArtifactCache;
+import com.ktnu.AiLectureSummary.repository.MemberLectureRepository;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureDocumentView;
+import com.ktnu.AiLectureSummary.repository.projection.MemberLectureExportView;
+import com.ktnu.AiLectureSummary.support.TestFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LectureExportServiceTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private MemberLectureRepository memberLectureRepository;
+    private LectureExporter pdfExporter;
+    private LectureExporter markdownExporter;
+    private ThreadPoolTaskExecutor executor;
+    private LectureExportService lectureExportService;
+    private CustomUserDetails user;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        memberLectureRepository = mock(MemberLectureRepository.class);
+        pdfExporter = exporter("pdf", true);
+        markdownExporter = exporter("md", false);
+
+        PdfProperties properties = new PdfProperties();
+        properties.setCacheDir(cacheDir.toString());
+        properties.setExportBatchSize(2);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+
+        PdfArtifactCache pdfArtifactCache = new PdfArtifactCache(properties);
+        LectureDocumentService lectureDocumentService = new LectureDocumentService(memberLectureRepository, pdfArtifactCache,
+                List.of(pdfExporter, markdownExporter));
+        lectureExportService = new LectureExportService(memberLectureRepository, lectureDocumentService,
+                pdfArtifactCache, executor, properties);
+        user = new CustomUserDetails(TestFixture.mockMember());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void ZIP내보내기_목록순서대로_배치조회() throws IOException {
+        // given // 같은 제목 2개 포함, 배치 크기 2
+        List<MemberLectureExportView> targets = List.of(
+                target(1L, 11L, "자료구조"), target(2L, 12L, "운영체제"), target(3L, 13L, "자료구조"));
+        when(memberLectureRepository.findExportTargets(1L)).thenReturn(targets);
+        List<MemberLectureDocumentView> documents = targets.stream()
+                .map(target -> document(target.getId(), target.getCustomTitle()))
+                .toList();
+        when(memberLectureRepository.findDocumentsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            List<MemberLectureDocumentView> found = new ArrayList<>();
+            for (Object id : (Iterable<?>) invocation.getArgument(0)) {
+                found.add(documents.get(((Long) id).intValue() - 1));
+            }
+            return found;
+        });
+
+        // when
+        List<String> entries = export("pdf");
+
+        // then // 목록 순서 유지, 겹치는 제목에는 강의 ID를 붙임
+        assertEquals(List.of("자료구조.pdf=pdf:자료구조", "운영체제.pdf=pdf:운영체제", "자료구조 (13).pdf=pdf:자료구조"), entries);
+        // 강의 원문은 배치마다 한 번의 쿼리로 조회 (강의 수만큼 조회하지 않음)
+        verify(memberLectureRepository, times(2)).findDocumentsByIdIn(anyCollection());
+    }
+
+    @Test
+    void 다시내보내기_캐시사용() throws IOException {
+        // given
+        List<MemberLectureExportView> targets = List.of(target(1L, 11L, "자료구조"));
+        when(memberLectureRepository.findExportTargets(1L)).thenReturn(targets);
+        when(memberLectureRepository.findDocumentsByIdIn(anyCollection())).thenReturn(List.of(document(1L, "자료구조")));
+        export("pdf");
+
+        // when
+        List<String> entries = export("pdf");
+
+        // then // 두 번째는 문서를 생성하지 않고 강의 원문도 조회하지 않음
+        assertEquals(List.of("자료구조.pdf=pdf:자료구조"), entries);
+        verify(memberLectureRepository, times(1)).findDocumentsByIdIn(anyCollection());
+        verify(pdfExporter, times(1)).export(any(), any());
+    }
+
+    @Test
+    void 일부캐시됨_캐시없는강의만조회및생성() throws IOException {
+        // given // 1번 강의만 먼저 내보내 캐시해 둠
+        when(memberLectureRepository.findExportTargets(1L)).thenReturn(List.of(target(1L, 11L, "자료구조")));
+        when(memberLectureRepository.findDocumentsByIdIn(anyCollection())).thenReturn(List.of(document(1L, "자료구조")));
+        export("pdf");
+        clearInvocations(memberLectureRepository, pdfExporter);
+
+        when(memberLectureRepository.findExportTargets(1L)).thenReturn(List.of(target(1L, 11L, "자료구조"), target(2L, 12L, "운영체제")));
+        when(memberLectureRepository.findDocumentsByIdIn(anyCollection())).thenReturn(List.of(document(2L, "운영체제")));
+
+        // when
+        List<String> entries = export("pdf");
+
+        // then // 캐시된 1번은 원문 조회와 생성 대상에서 빠짐
+        assertEquals(List.of("자료구조.pdf=pdf:자료구조", "운영체제.pdf=pdf:운영체제"), entries);
+        verify(memberLectureRepository).findDocumentsByIdIn(List.of(2L));
+        verify(pdfExporter, times(1)).export(any(), any());
+    }
+
+    @Test
+    void Markdown으로ZIP내보내기_캐시하지않음() throws IOException {
+        // given
+        when(memberLectureRepository.findExportTargets(1L)).thenReturn(List.of(target(1L, 11L, "자료구조")));
+        when(memberLectureRepository.findDocumentsByIdIn(anyCollection())).thenReturn(List.of(document(1L, "자료구조")));
+
+        // when
+        List<String> entries = export("md");
+
+        // then
+        assertEquals(List.of("자료구조.md=md:자료구조"), entries);
+        verify(pdfExporter, never()).export(any(), any());
+    }
+
+    @Test
+    void 내보낼강의없음_404() {
+        // given
+        when(memberLectureRepository.findExportTargets(eq(1L), anyCollection())).thenReturn(List.of());
+
+        // when & then
+        assertThrows(LectureNotFoundException.class, () -> lectureExportService.prepareExport(user,
+                new LectureExportRequest(List.of(99L), false, LectureExportFormat.ZIP, "pdf")));
+    }
+
+    private List<String> export(String documentFormat) throws IOException {
+        LectureExportResponse response = lectureExportService.prepareExport(user,
+                new LectureExportRequest(null, true, LectureExportFormat.ZIP, documentFormat));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.add(entry.getName() + "=" + new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    // 생성되는 문서 내용 대신 "{확장자}:{제목}"을 쓰는 내보내기 형식
+    private static LectureExporter exporter(String extension, boolean cacheable) throws IOException {
+        LectureExporter exporter = mock(LectureExporter.class);
+        when(exporter.getExtension()).thenReturn(extension);
+        when(exporter.getMediaType()).thenReturn(MediaType.APPLICATION_OCTET_STREAM);
+        when(exporter.getLayoutVersion()).thenReturn(1);
+        when(exporter.isCacheable()).thenReturn(cacheable);
+        doAnswer(invocation -> {
+            MemberLectureDocumentView document = invocation.getArgument(0);
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write((extension + ":" + document.getCustomTitle()).getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exporter).export(any(), any());
+        return exporter;
+    }
+
+    private static MemberLectureDocumentView document(Long id, String customTitle) {
+        MemberLectureDocumentView document = mock(MemberLectureDocumentView.class);
+        when(document.getId()).thenReturn(id);
+        when(document.getCustomTitle()).thenReturn(customTitle);
+        return document;
+    }
+
+    private static MemberLectureExportView target(Long id, Long lectureId, String customTitle) {
+        return new MemberLectureExportView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getLectureId() {
+                return lectureId;
+            }
+
+            @Override
+            public String getCustomTitle() {
+                return customTitle;
+            }
+
+            @Override
+            public long getContentVersion() {
+                return 0L;
+            }
+        };
+    }
+}
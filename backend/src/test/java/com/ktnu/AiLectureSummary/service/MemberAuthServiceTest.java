@@ -1,25 +1,34 @@
 package com.ktnu.AiLectureSummary.service;
 
 import com.ktnu.AiLectureSummary.application.service.MemberAuthService;
-import com.ktnu.AiLectureSummary.global.config.JwtProperties;
 import com.ktnu.AiLectureSummary.domain.Member;
 import com.ktnu.AiLectureSummary.application.dto.member.request.MemberLoginRequest;
 import com.ktnu.AiLectureSummary.application.dto.member.response.MemberLoginResponse;
 import com.ktnu.AiLectureSummary.application.dto.member.request.MemberRegisterRequest;
 import com.ktnu.AiLectureSummary.global.exception.DuplicateLoginIdException;
 import com.ktnu.AiLectureSummary.global.exception.InvalidPasswordException;
+import com.ktnu.AiLectureSummary.global.exception.InvalidTokenException;
 import com.ktnu.AiLectureSummary.global.exception.MemberNotFoundException;
 import com.ktnu.AiLectureSummary.repository.MemberRepository;
+import com.ktnu.AiLectureSummary.global.security.AccessTokenBlacklist;
 import com.ktnu.AiLectureSummary.global.security.JwtProvider;
+import com.ktnu.AiLectureSummary.global.security.RefreshTokenStore;
+import com.ktnu.AiLectureSummary.global.redis.RedisPipeline;
 import com.ktnu.AiLectureSummary.support.TestFixture;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.mockito.InOrder;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.Duration;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,8 +38,10 @@ class MemberAuthServiceTest {
     private MemberRepository memberRepository;
     private PasswordEncoder passwordEncoder;
     private JwtProvider jwtProvider;
-    private StringRedisTemplate stringRedisTemplate;
-    private JwtProperties jwtProperties;
+    private RefreshTokenStore refreshTokenStore;
+    private AccessTokenBlacklist accessTokenBlacklist;
+    private RedisPipeline redisPipeline;
+    private StringRedisConnection redisConnection;
 
     private MemberAuthService memberAuthService;
 
@@ -39,15 +50,18 @@ class MemberAuthServiceTest {
         memberRepository = mock(MemberRepository.class);
         passwordEncoder = mock(PasswordEncoder.class);
         jwtProvider = mock(JwtProvider.class);
-        jwtProperties = mock(JwtProperties.class);
+        accessTokenBlacklist = mock(AccessTokenBlacklist.class);
 
         // Redis
-        stringRedisTemplate = mock(StringRedisTemplate.class); // Redis 템플릿 자체를 모킹
-        ValueOperations<String, String> valueOps = mock(ValueOperations.class); // 내부의 opsForValue()가 반환할 객체도 모킹
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOps); // Redis가 opsForValue() 호출할 때 반환할 mock 지정
-
-
-        memberAuthService = new MemberAuthService(memberRepository, passwordEncoder, jwtProvider,stringRedisTemplate,jwtProperties);
+        refreshTokenStore = mock(RefreshTokenStore.class);
+        redisPipeline = mock(RedisPipeline.class);
+        redisConnection = mock(StringRedisConnection.class);
+        doAnswer(invocation -> { // 파이프라인에 쌓는 명령을 바로 실행
+            invocation.<Consumer<StringRedisConnection>>getArgument(1).accept(redisConnection);
+            return List.of();
+        }).when(redisPipeline).execute(anyString(), any());
+
+        memberAuthService = new MemberAuthService(memberRepository, passwordEncoder, jwtProvider, refreshTokenStore, accessTokenBlacklist, redisPipeline);
     }
 
     @Test
@@ -100,18 +114,40 @@ class MemberAuthServiceTest {
         when(jwtProvider.generateRefreshToken(mockMember.getId()))
                 .thenReturn("mocked-jwt-refresh-token");
 
+        when(jwtProvider.getTokenId("mocked-jwt-refresh-token"))
+                .thenReturn("refresh-jti");
+
         // when
         MemberLoginResponse response = memberAuthService.login(request);
 
         // then
-        verify(stringRedisTemplate.opsForValue())
-                .set("refresh:" + "mocked-jwt-refresh-token", String.valueOf(mockMember.getId()), Duration.ofMillis(jwtProperties.getRefreshExpiration()));
+        verify(refreshTokenStore)
+                .save(mockMember.getId(), "refresh-jti");
 
         assertEquals("mocked-jwt-access-token", response.getAccessToken());
         assertEquals("mocked-jwt-refresh-token", response.getRefreshToken());
 
     }
 
+    @Test
+    void 로그인_성공_약한해시재해싱() {
+        // given // 저장된 해시가 현재 설정보다 약함 (cost 낮음 또는 다른 알고리즘)
+        MemberLoginRequest request = new MemberLoginRequest("test@example.com", "password123");
+        Member mockMember = TestFixture.mockMember();
+
+        when(memberRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(mockMember));
+        when(passwordEncoder.matches(request.getPassword(), mockMember.getPassword())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(mockMember.getPassword())).thenReturn(true);
+        when(passwordEncoder.encode(request.getPassword())).thenReturn("{bcrypt}rehashed");
+
+        // when
+        memberAuthService.login(request);
+
+        // then
+        assertEquals("{bcrypt}rehashed", mockMember.getPassword());
+        verify(memberRepository).save(mockMember);
+    }
+
     @Test
     void 로그인_실패_아이디불일치() {
         // given
@@ -151,4 +187,124 @@ class MemberAuthServiceTest {
         verify(jwtProvider, never())
                 .generateAccessToken(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 로그아웃_성공_블랙리스트등록() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("access_token", "access"), new Cookie("refresh_token", "refresh"));
+        Claims accessClaims = mock(Claims.class);
+        Claims refreshClaims = mock(Claims.class);
+        when(jwtProvider.parseAccessToken("access")).thenReturn(Optional.of(accessClaims));
+        when(accessClaims.getExpiration()).thenReturn(new Date(System.currentTimeMillis() + 60_000L));
+        when(jwtProvider.getTokenId(accessClaims, "access")).thenReturn("access-jti");
+        when(jwtProvider.parseRefreshToken("refresh")).thenReturn(Optional.of(refreshClaims));
+        when(jwtProvider.getTokenId(refreshClaims, "refresh")).thenReturn("refresh-jti");
+        when(refreshClaims.getSubject()).thenReturn("1");
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        when(accessTokenBlacklist.revokeLocally(eq("access-jti"), any(Duration.class))).thenReturn(expiresAt);
+
+        // when
+        memberAuthService.logout(request);
+
+        // then // access_token은 한 번만 파싱, 토큰 원문이 아닌 jti로 등록/삭제, 로컬 캐시 등록 후 한 번의 파이프라인으로 처리
+        verify(jwtProvider, times(1)).parseAccessToken("access");
+        InOrder inOrder = inOrder(accessTokenBlacklist, redisPipeline);
+        inOrder.verify(accessTokenBlacklist).revokeLocally(eq("access-jti"), any(Duration.class));
+        inOrder.verify(redisPipeline, times(1)).execute(eq("logout"), any());
+        verify(accessTokenBlacklist).revoke(redisConnection, "access-jti", expiresAt);
+        verify(refreshTokenStore).revoke(redisConnection, 1L, "refresh-jti");
+    }
+
+    @Test
+    void 로그아웃_유효하지않은AccessToken_예외() {
+        // given // 서명 위조, 만료 등으로 파싱 실패
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("access_token", "access"));
+        when(jwtProvider.parseAccessToken("access")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> memberAuthService.logout(request));
+        verify(redisPipeline, never()).execute(anyString(), any());
+    }
+
+    @Test
+    void 토큰재발급_성공_세션교체() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("refresh_token", "refresh"));
+        Claims refreshClaims = mock(Claims.class);
+        when(jwtProvider.parseRefreshToken("refresh")).thenReturn(Optional.of(refreshClaims));
+        when(jwtProvider.getTokenId(refreshClaims, "refresh")).thenReturn("old-jti");
+        when(refreshClaims.getSubject()).thenReturn("1");
+        when(jwtProvider.generateAccessToken(1L)).thenReturn("new-access");
+        when(jwtProvider.generateRefreshToken(1L)).thenReturn("new-refresh");
+        when(jwtProvider.getTokenId("new-refresh")).thenReturn("new-jti");
+        when(refreshTokenStore.rotate(1L, "old-jti", "new-jti")).thenReturn(RefreshTokenStore.RotationResult.ROTATED);
+
+        // when
+        MemberLoginResponse response = memberAuthService.reissueAccessToken(request);
+
+        // then // 사용한 refreshToken은 폐기되고 새 refreshToken으로 교체
+        assertEquals("new-access", response.getAccessToken());
+        assertEquals("new-refresh", response.getRefreshToken());
+    }
+
+    @Test
+    void 토큰재발급_동시요청_accessToken만발급() {
+        // given // 다른 탭이 방금 같은 refreshToken으로 교체함
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("refresh_token", "refresh"));
+        Claims refreshClaims = mock(Claims.class);
+        when(jwtProvider.parseRefreshToken("refresh")).thenReturn(Optional.of(refreshClaims));
+        when(jwtProvider.getTokenId(refreshClaims, "refresh")).thenReturn("old-jti");
+        when(refreshClaims.getSubject()).thenReturn("1");
+        when(jwtProvider.generateAccessToken(1L)).thenReturn("new-access");
+        when(jwtProvider.generateRefreshToken(1L)).thenReturn("new-refresh");
+        when(jwtProvider.getTokenId("new-refresh")).thenReturn("new-jti");
+        when(refreshTokenStore.rotate(1L, "old-jti", "new-jti")).thenReturn(RefreshTokenStore.RotationResult.CONCURRENT);
+
+        // when
+        MemberLoginResponse response = memberAuthService.reissueAccessToken(request);
+
+        // then
+        assertEquals("new-access", response.getAccessToken());
+        assertNull(response.getRefreshToken());
+    }
+
+    @Test
+    void 토큰재발급_실패_재사용감지() {
+        // given // 이미 교체된 refreshToken이 유예 시간 이후 다시 사용됨
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("refresh_token", "refresh"));
+        Claims refreshClaims = mock(Claims.class);
+        when(jwtProvider.parseRefreshToken("refresh")).thenReturn(Optional.of(refreshClaims));
+        when(jwtProvider.getTokenId(refreshClaims, "refresh")).thenReturn("old-jti");
+        when(refreshClaims.getSubject()).thenReturn("1");
+        when(jwtProvider.generateRefreshToken(1L)).thenReturn("new-refresh");
+        when(jwtProvider.getTokenId("new-refresh")).thenReturn("new-jti");
+        when(refreshTokenStore.rotate(1L, "old-jti", "new-jti")).thenReturn(RefreshTokenStore.RotationResult.REUSED);
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> memberAuthService.reissueAccessToken(request));
+        verify(jwtProvider, never()).generateAccessToken(any());
+    }
+
+    @Test
+    void 토큰재발급_실패_폐기된세션() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("refresh_token", "refresh"));
+        Claims refreshClaims = mock(Claims.class);
+        when(jwtProvider.parseRefreshToken("refresh")).thenReturn(Optional.of(refreshClaims));
+        when(jwtProvider.getTokenId(refreshClaims, "refresh")).thenReturn("old-jti");
+        when(refreshClaims.getSubject()).thenReturn("1");
+        when(jwtProvider.generateRefreshToken(1L)).thenReturn("new-refresh");
+        when(jwtProvider.getTokenId("new-refresh")).thenReturn("new-jti");
+        when(refreshTokenStore.rotate(1L, "old-jti", "new-jti")).thenReturn(RefreshTokenStore.RotationResult.INVALID);
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> memberAuthService.reissueAccessToken(request));
+        verify(jwtProvider, never()).generateAccessToken(any());
+    }
+}
@@ -9,6 +9,7 @@ import com.ktnu.AiLectureSummary.global.exception.NoProfileChangesException;
 import com.ktnu.AiLectureSummary.repository.MemberRepository;
 import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
 import com.ktnu.AiLectureSummary.global.security.JwtProvider;
+import com.ktnu.AiLectureSummary.global.security.PrincipalCache;
 import com.ktnu.AiLectureSummary.support.TestFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ class MemberProfileServiceTest {
     private MemberRepository memberRepository;
     private PasswordEncoder passwordEncoder;
     private JwtProvider jwtProvider;
+    private PrincipalCache principalCache;
     private MemberProfileService memberProfileService;
 
     @BeforeEach
@@ -31,8 +33,9 @@ class MemberProfileServiceTest {
         memberRepository = mock(MemberRepository.class);
         passwordEncoder = mock(PasswordEncoder.class);
         jwtProvider = mock(JwtProvider.class);
+        principalCache = mock(PrincipalCache.class);
 
-        memberProfileService = new MemberProfileService(memberRepository, passwordEncoder, jwtProvider);
+        memberProfileService = new MemberProfileService(memberRepository, passwordEncoder, jwtProvider, principalCache);
     }
 
     @Test
@@ -63,6 +66,7 @@ class MemberProfileServiceTest {
         assertEquals(mockMember.getEmail(), response.getEmail()); // 이메일은 변경되지 않음
         assertEquals(response.getUsername(), request.getUsername()); // 이름
         assertEquals("newToken123", response.getToken()); // 토큰
+        verify(principalCache).evict(mockMember.getId()); // 인증 정보 캐시 무효화
         // 비밀번호는 직접 검증이 어려우므로, 처리 흐름을 통해 간접적으로 수정 여부를 확인함.
     }
 
@@ -1,6 +1,9 @@
 package com.ktnu.AiLectureSummary.service;
 
 import com.ktnu.AiLectureSummary.application.service.PasswordResetService;
+import com.ktnu.AiLectureSummary.global.redis.RedisCircuitBreaker;
+import com.ktnu.AiLectureSummary.global.security.PrincipalCache;
+import com.ktnu.AiLectureSummary.global.security.RefreshTokenStore;
 import com.ktnu.AiLectureSummary.repository.MemberRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,7 +24,7 @@ class PasswordResetServiceTest {
         passwordEncoder = mock(PasswordEncoder.class);
         stringRedisTemplate = mock(StringRedisTemplate.class);
 
-        passwordResetService = new PasswordResetService(memberRepository, passwordEncoder, stringRedisTemplate);
+        passwordResetService = new PasswordResetService(memberRepository, passwordEncoder, stringRedisTemplate, mock(PrincipalCache.class), mock(RefreshTokenStore.class), mock(RedisCircuitBreaker.class));
     }
 
     @Test
@@ -0,0 +1,98 @@
+package com.ktnu.AiLectureSummary.thumbnail;
+
+import com.ktnu.AiLectureSummary.application.port.out.ThumbnailStore;
+import com.ktnu.AiLectureSummary.infrastructure.adapter.thumbnail.DatabaseThumbnailStore;
+import com.ktnu.AiLectureSummary.repository.LectureThumbnailRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 강의 삭제 커밋 이후(afterCommit)에 호출된 썸네일 삭제가 실제로 커밋되는지 검증합니다.
+ * 실제 DB 대신 트랜잭션마다 획득한 커넥션을 기록하는 DataSource를 사용합니다.
+ */
+@SpringJUnitConfig(DatabaseThumbnailStoreTest.Config.class)
+class DatabaseThumbnailStoreTest {
+
+    private static final List<Connection> connections = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private ThumbnailStore thumbnailStore;
+    @Autowired
+    private LectureThumbnailRepository lectureThumbnailRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+        @Bean
+        DataSource dataSource() throws SQLException {
+            DataSource dataSource = mock(DataSource.class);
+            when(dataSource.getConnection()).thenAnswer(invocation -> {
+                Connection connection = mock(Connection.class);
+                connections.add(connection);
+                return connection;
+            });
+            return dataSource;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        LectureThumbnailRepository lectureThumbnailRepository() {
+            return mock(LectureThumbnailRepository.class);
+        }
+
+        @Bean
+        ThumbnailStore thumbnailStore(LectureThumbnailRepository lectureThumbnailRepository) {
+            return new DatabaseThumbnailStore(lectureThumbnailRepository);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        connections.clear();
+        reset(lectureThumbnailRepository);
+    }
+
+    @Test
+    void 커밋후삭제_새트랜잭션에서커밋() throws SQLException {
+        // when // 강의 삭제 트랜잭션이 커밋된 뒤 썸네일 삭제
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        thumbnailStore.delete("thumbnail-key");
+                    }
+                }));
+
+        // then // 이미 커밋된 트랜잭션에 참여하지 않고, 새 트랜잭션에서 삭제 후 커밋
+        assertEquals(2, connections.size());
+        InOrder inOrder = inOrder(lectureThumbnailRepository, connections.get(1));
+        inOrder.verify(lectureThumbnailRepository).deleteById("thumbnail-key");
+        inOrder.verify(connections.get(1)).commit();
+    }
+}
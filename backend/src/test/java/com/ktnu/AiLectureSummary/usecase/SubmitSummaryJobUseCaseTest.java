@@ -0,0 +1,83 @@
+package com.ktnu.AiLectureSummary.usecase;
+
+import com.ktnu.AiLectureSummary.application.service.LectureService;
+import com.ktnu.AiLectureSummary.application.service.SummaryJobService;
+import com.ktnu.AiLectureSummary.application.usecase.SubmitSummaryJobUseCase;
+import com.ktnu.AiLectureSummary.application.usecase.UploadLectureUseCase;
+import com.ktnu.AiLectureSummary.domain.SummaryJob;
+import com.ktnu.AiLectureSummary.domain.SummaryJobType;
+import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
+import com.ktnu.AiLectureSummary.support.TestFixture;
+import com.ktnu.AiLectureSummary.util.SpooledMultipartFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SubmitSummaryJobUseCaseTest {
+
+    private UploadLectureUseCase uploadLectureUseCase;
+    private SummaryJobService summaryJobService;
+    private ThreadPoolTaskExecutor summaryJobExecutor;
+    private SubmitSummaryJobUseCase submitSummaryJobUseCase;
+
+    @BeforeEach
+    void setUp() {
+        uploadLectureUseCase = mock(UploadLectureUseCase.class);
+        summaryJobService = mock(SummaryJobService.class);
+        summaryJobExecutor = mock(ThreadPoolTaskExecutor.class);
+        submitSummaryJobUseCase = new SubmitSummaryJobUseCase(uploadLectureUseCase, mock(LectureService.class),
+                summaryJobService, summaryJobExecutor);
+    }
+
+    @Test
+    void 작업등록실패_임시파일삭제() {
+        // given // 임시 파일로 복사한 뒤 작업 저장이 실패함
+        CustomUserDetails user = new CustomUserDetails(TestFixture.mockMember());
+        MockMultipartFile file = new MockMultipartFile("file", "lecture.mp4", "video/mp4", "video-content".getBytes());
+        SpooledMultipartFile spooledFile = mock(SpooledMultipartFile.class);
+        when(summaryJobService.create(anyLong(), eq(SummaryJobType.MEDIA_FILE))).thenThrow(new IllegalStateException("db down"));
+
+        try (MockedStatic<SpooledMultipartFile> spool = mockStatic(SpooledMultipartFile.class)) {
+            spool.when(() -> SpooledMultipartFile.spool(file)).thenReturn(spooledFile);
+
+            // when
+            assertThrows(IllegalStateException.class, () -> submitSummaryJobUseCase.submitLecture(user, file));
+        }
+
+        // then // 작업 스레드에 넘어가지 않았으므로 요청 스레드에서 바로 삭제
+        verify(spooledFile).delete();
+        verify(summaryJobExecutor, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    void 작업실패_실패상태저장실패_임시파일삭제() {
+        // given // 요약이 실패하고, 실패 상태 저장도 DB 장애로 실패함
+        CustomUserDetails user = new CustomUserDetails(TestFixture.mockMember());
+        MockMultipartFile file = new MockMultipartFile("file", "lecture.mp4", "video/mp4", "video-content".getBytes());
+        SpooledMultipartFile spooledFile = mock(SpooledMultipartFile.class);
+        when(summaryJobService.create(anyLong(), eq(SummaryJobType.MEDIA_FILE))).thenReturn(SummaryJob.queued(1L, SummaryJobType.MEDIA_FILE));
+        when(uploadLectureUseCase.uploadLecture(user, spooledFile)).thenThrow(new IllegalStateException("fastapi down"));
+        doThrow(new IllegalStateException("db down")).when(summaryJobService).fail(any(), anyString());
+
+        try (MockedStatic<SpooledMultipartFile> spool = mockStatic(SpooledMultipartFile.class)) {
+            spool.when(() -> SpooledMultipartFile.spool(file)).thenReturn(spooledFile);
+            submitSummaryJobUseCase.submitLecture(user, file);
+        }
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(summaryJobExecutor).execute(task.capture());
+
+        // when // 작업 스레드 본문 실행
+        assertDoesNotThrow(() -> task.getValue().run());
+
+        // then
+        verify(summaryJobService).fail(any(), eq("fastapi down"));
+        verify(spooledFile).delete();
+    }
+}
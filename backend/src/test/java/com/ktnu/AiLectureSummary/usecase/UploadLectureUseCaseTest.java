@@ -0,0 +1,240 @@
+package com.ktnu.AiLectureSummary.usecase;
+
+import com.ktnu.AiLectureSummary.application.dto.lecture.response.LectureSummaryResponse;
+import com.ktnu.AiLectureSummary.application.dto.lecture.response.LectureUploadResponse;
+import com.ktnu.AiLectureSummary.application.port.out.LectureSummaryFromFilePort;
+import com.ktnu.AiLectureSummary.application.port.out.ThumbnailStore;
+import com.ktnu.AiLectureSummary.application.port.out.YoutubeSummaryPort;
+import com.ktnu.AiLectureSummary.application.service.LectureService;
+import com.ktnu.AiLectureSummary.application.service.MemberLectureService;
+import com.ktnu.AiLectureSummary.application.service.ThumbnailService;
+import com.ktnu.AiLectureSummary.application.service.YoutubeLectureService;
+import com.ktnu.AiLectureSummary.application.usecase.UploadLectureUseCase;
+import com.ktnu.AiLectureSummary.domain.Lecture;
+import com.ktnu.AiLectureSummary.domain.Member;
+import com.ktnu.AiLectureSummary.global.concurrency.LocalSingleFlight;
+import com.ktnu.AiLectureSummary.global.security.CustomUserDetails;
+import com.ktnu.AiLectureSummary.infrastructure.pdf.PdfArtifactCache;
+import com.ktnu.AiLectureSummary.repository.LectureRepository;
+import com.ktnu.AiLectureSummary.repository.MemberLectureRepository;
+import com.ktnu.AiLectureSummary.repository.MemberRepository;
+import com.ktnu.AiLectureSummary.support.TestFixture;
+import com.ktnu.AiLectureSummary.util.SpooledMultipartFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * FastAPI 호출(포트 호출) 동안 트랜잭션이 열려 있지 않고 DB 커넥션을 점유하지 않는지 검증합니다.
+ * 실제 DB 대신 커넥션 획득/반납 횟수를 세는 DataSource와 Spring 트랜잭션 프록시를 사용합니다.
+ */
+@SpringJUnitConfig(UploadLectureUseCaseTest.Config.class)
+class UploadLectureUseCaseTest {
+
+    // 현재 열려 있는 커넥션 수 / 누적 획득 횟수
+    private static final AtomicInteger openConnections = new AtomicInteger();
+    private static final AtomicInteger acquiredConnections = new AtomicInteger();
+
+    @Autowired
+    private UploadLectureUseCase uploadLectureUseCase;
+    @Autowired
+    private LectureSummaryFromFilePort lectureSummaryFromFilePort;
+    @Autowired
+    private YoutubeSummaryPort youtubeSummaryPort;
+    @Autowired
+    private LectureRepository lectureRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberLectureRepository memberLectureRepository;
+
+    private CustomUserDetails user;
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+        @Bean
+        DataSource dataSource() throws SQLException {
+            DataSource dataSource = mock(DataSource.class);
+            when(dataSource.getConnection()).thenAnswer(invocation -> {
+                acquiredConnections.incrementAndGet();
+                openConnections.incrementAndGet();
+                Connection connection = mock(Connection.class);
+                doAnswer(close -> {
+                    openConnections.decrementAndGet();
+                    return null;
+                }).when(connection).close();
+                return connection;
+            });
+            return dataSource;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        LectureRepository lectureRepository() {
+            return mock(LectureRepository.class);
+        }
+
+        @Bean
+        MemberRepository memberRepository() {
+            return mock(MemberRepository.class);
+        }
+
+        @Bean
+        MemberLectureRepository memberLectureRepository() {
+            return mock(MemberLectureRepository.class);
+        }
+
+        @Bean
+        LectureSummaryFromFilePort lectureSummaryFromFilePort() {
+            return mock(LectureSummaryFromFilePort.class);
+        }
+
+        @Bean
+        YoutubeSummaryPort youtubeSummaryPort() {
+            return mock(YoutubeSummaryPort.class);
+        }
+
+        @Bean
+        ThumbnailService thumbnailService(LectureRepository lectureRepository, MemberLectureRepository memberLectureRepository) {
+            return new ThumbnailService(mock(ThumbnailStore.class), lectureRepository, memberLectureRepository);
+        }
+
+        @Bean
+        LectureService lectureService(LectureRepository lectureRepository, LectureSummaryFromFilePort lectureSummaryFromFilePort, ThumbnailService thumbnailService) {
+            return new LectureService(lectureRepository, lectureSummaryFromFilePort, thumbnailService);
+        }
+
+        @Bean
+        YoutubeLectureService youtubeLectureService(LectureRepository lectureRepository, YoutubeSummaryPort youtubeSummaryPort) {
+            return new YoutubeLectureService(lectureRepository, youtubeSummaryPort);
+        }
+
+        @Bean
+        MemberLectureService memberLectureService(MemberLectureRepository memberLectureRepository, MemberRepository memberRepository, LectureRepository lectureRepository, ThumbnailService thumbnailService) {
+            return new MemberLectureService(memberLectureRepository, memberRepository, lectureRepository, thumbnailService, mock(PdfArtifactCache.class));
+        }
+
+        @Bean
+        UploadLectureUseCase uploadLectureUseCase(LectureService lectureService, MemberLectureService memberLectureService, YoutubeLectureService youtubeLectureService) {
+            return new UploadLectureUseCase(lectureService, memberLectureService, youtubeLectureService, new LocalSingleFlight());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        reset(lectureRepository, memberRepository, memberLectureRepository, lectureSummaryFromFilePort, youtubeSummaryPort);
+        openConnections.set(0);
+        acquiredConnections.set(0);
+
+        Member member = TestFixture.mockMember();
+        user = new CustomUserDetails(member);
+
+        when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
+        when(memberLectureRepository.existsByMember_IdAndLecture(anyLong(), any())).thenReturn(false);
+        when(lectureRepository.save(any())).thenReturn(Lecture.builder().id(10L).titleByAi("AI 제목").build());
+    }
+
+    @Test
+    void 파일업로드_외부호출중_커넥션미점유() {
+        // given
+        SpooledMultipartFile file = SpooledMultipartFile.spool(new MockMultipartFile("file", "lecture.mp4", "video/mp4", "video-content".getBytes()));
+        when(lectureRepository.findByHash(anyString())).thenReturn(Optional.empty());
+
+        AtomicBoolean transactionActiveDuringCall = new AtomicBoolean(true);
+        AtomicInteger connectionsDuringCall = new AtomicInteger(-1);
+        when(lectureSummaryFromFilePort.requestSummary(any())).thenAnswer(invocation -> {
+            // 외부 호출 시점의 트랜잭션/커넥션 상태 기록
+            transactionActiveDuringCall.set(TransactionSynchronizationManager.isActualTransactionActive());
+            connectionsDuringCall.set(openConnections.get());
+            return new LectureSummaryResponse("AI 제목", "원문", "요약", 60L, null);
+        });
+
+        // when
+        LectureUploadResponse response;
+        try {
+            response = uploadLectureUseCase.uploadLecture(user, file);
+        } finally {
+            file.delete();
+        }
+
+        // then
+        assertFalse(transactionActiveDuringCall.get()); // 외부 호출 중 트랜잭션 없음
+        assertEquals(0, connectionsDuringCall.get()); // 외부 호출 중 점유한 커넥션 없음
+        assertEquals(1, acquiredConnections.get()); // 저장 단계에서만 한 번 커넥션 사용
+        assertEquals(0, openConnections.get()); // 저장 후 커넥션 반납
+        assertEquals(10L, response.getId());
+        verify(lectureRepository).save(any());
+        verify(memberLectureRepository).existsByMember_IdAndLecture(anyLong(), any()); // 사용자 연결은 한 번만 처리
+        verify(memberLectureRepository).save(any());
+    }
+
+    @Test
+    void 유튜브업로드_외부호출중_커넥션미점유() {
+        // given
+        String url = "https://www.youtube.com/watch?v=00yJy7W0DQE";
+        when(lectureRepository.findByYoutubeUrl(url)).thenReturn(Optional.empty());
+
+        AtomicBoolean transactionActiveDuringCall = new AtomicBoolean(true);
+        AtomicInteger connectionsDuringCall = new AtomicInteger(-1);
+        when(youtubeSummaryPort.requestSummary(url)).thenAnswer(invocation -> {
+            transactionActiveDuringCall.set(TransactionSynchronizationManager.isActualTransactionActive());
+            connectionsDuringCall.set(openConnections.get());
+            return new LectureSummaryResponse("AI 제목", "원문", "요약", 60L, null);
+        });
+
+        // when
+        uploadLectureUseCase.uploadLectureByYoutubeUrl(user, url);
+
+        // then
+        assertFalse(transactionActiveDuringCall.get());
+        assertEquals(0, connectionsDuringCall.get());
+        assertEquals(1, acquiredConnections.get());
+        assertEquals(0, openConnections.get());
+    }
+
+    @Test
+    void 파일업로드_중복강의_외부호출없음() {
+        // given // 같은 해시의 강의가 이미 저장되어 있음
+        SpooledMultipartFile file = SpooledMultipartFile.spool(new MockMultipartFile("file", "lecture.mp4", "video/mp4", "video-content".getBytes()));
+        Lecture existing = Lecture.builder().id(5L).titleByAi("기존 강의").build();
+        when(lectureRepository.findByHash(anyString())).thenReturn(Optional.of(existing));
+
+        // when
+        LectureUploadResponse response;
+        try {
+            response = uploadLectureUseCase.uploadLecture(user, file);
+        } finally {
+            file.delete();
+        }
+
+        // then // FastAPI 호출 없이 사용자와 연결만 저장
+        assertEquals(5L, response.getId());
+        verify(lectureSummaryFromFilePort, never()).requestSummary(any());
+        verify(lectureRepository, never()).save(any());
+        verify(memberLectureRepository).save(any());
+    }
+}
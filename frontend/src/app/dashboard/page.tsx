@@ -29,6 +29,8 @@ interface Lecture {
   url?: string;
 };
 
+const PAGE_SIZE = 20;
+
 type User = {
   email: string;
   username: string;
@@ -42,6 +44,9 @@ export default function DashboardPage() {
   const API_BASE_URL = process.env.NEXT_PUBLIC_SPRING_API_URL;
   // 총 절약한 시간을 저장하는 상태
   const [totalDuration, setTotalDuration] = useState<number>(0);
+  // 전체 강의 수와 다음 페이지 커서를 저장하는 상태
+  const [totalCount, setTotalCount] = useState<number>(0);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [isLoading, setIsLoading] = useState(true);
   const router = useRouter();
 
@@ -51,27 +56,6 @@ export default function DashboardPage() {
 
 
   useEffect(() => {
-    async function fetchLectures() {
-      try {
-        const res = await customFetch(`${API_BASE_URL}/api/member-lectures/dashboard`);
-        if (!res.ok) throw new Error("강의 데이터 불러오기 실패");
-
-        const json = await res.json();
-        const fetchedData = json.data;
-        const sortedLectures = fetchedData.items.sort(
-          (a: Lecture, b: Lecture) => b.lectureId - a.lectureId
-        );
-
-        setLectures(sortedLectures);
-        setTotalDuration(fetchedData.totalDuration);
-
-      } catch (error) {
-        console.error("강의 목록 불러오기 실패", error);
-        setLectures([]);
-        setTotalDuration(0);
-      }
-    }
-
     async function fetchUserInfo() {
       try {
         const res = await customFetch(`${API_BASE_URL}/api/members/me`);
@@ -90,6 +74,38 @@ export default function DashboardPage() {
     fetchLectures();
   }, []);
 
+  // 강의 목록을 페이지 단위로 불러오는 함수 (cursor가 없으면 첫 페이지)
+  async function fetchLectures(cursor?: string) {
+    try {
+      const params = new URLSearchParams({ sort: "ENROLLED_AT", size: String(PAGE_SIZE) });
+      if (cursor) params.set("cursor", cursor);
+
+      const res = await customFetch(`${API_BASE_URL}/api/member-lectures/dashboard/page?${params}`);
+      if (!res.ok) throw new Error("강의 데이터 불러오기 실패");
+
+      const json = await res.json();
+      const fetchedData = json.data;
+
+      // 첫 페이지에만 전체 강의 수 / 총 절약 시간이 포함됨
+      if (!cursor) {
+        setLectures(fetchedData.items);
+        setTotalCount(fetchedData.totalCount ?? fetchedData.items.length);
+        setTotalDuration(fetchedData.totalDuration ?? 0);
+      } else {
+        setLectures(prev => [...prev, ...fetchedData.items]);
+      }
+      setNextCursor(fetchedData.nextCursor ?? null);
+
+    } catch (error) {
+      console.error("강의 목록 불러오기 실패", error);
+      if (!cursor) {
+        setLectures([]);
+        setTotalCount(0);
+        setTotalDuration(0);
+      }
+    }
+  }
+
   // 강의 삭제 처리 함수
   const handleDelete = async (lecture: Lecture) => {
     try {
@@ -103,6 +119,7 @@ export default function DashboardPage() {
       }
 
       setLectures(prev => prev.filter(l => l.lectureId !== lecture.lectureId));
+      setTotalCount(prev => Math.max(0, prev - 1));
       setTotalDuration(prev => Math.max(0, prev - (lecture.duration ?? 0)));
 
       toast({
@@ -179,7 +196,7 @@ export default function DashboardPage() {
               <div className="w-20 h-20 rounded-full bg-primary/10 flex items-center justify-center mb-4">
                 <FileText className="h-10 w-10 text-primary" />
               </div>
-              <h3 className="text-2xl font-bold mb-1">{lectures.length}</h3>
+              <h3 className="text-2xl font-bold mb-1">{totalCount}</h3>
               <p className="text-sm text-muted-foreground">요약한 강의</p>
             </CardContent>
           </Card>
@@ -302,6 +319,13 @@ export default function DashboardPage() {
             ) : (
               <p className="text-muted-foreground text-center">요약한 동영상이 없습니다.</p>
             )}
+            {nextCursor && (
+              <div className="flex justify-center mt-6">
+                <Button variant="outline" onClick={() => fetchLectures(nextCursor)}>
+                  더 보기
+                </Button>
+              </div>
+            )}
           </TabsContent>
         </Tabs>
 
@@ -18,7 +18,7 @@ const API_BASE_URL = process.env.NEXT_PUBLIC_SPRING_API_URL;
 interface SummaryData {
   customTitle?: string
   duration?: number
-  thumbnailBase64?: string
+  thumbnailUrl?: string
   aiSummary?: string
   originalText?: string
   memo?: string
@@ -89,8 +89,9 @@ export default function Page() {
   }, [summaryData?.customTitle])
 
   const getThumbnailSrc = (): string => {
-    if (summaryData?.thumbnailBase64) {
-      return `data:image/png;base64,${summaryData.thumbnailBase64}`;
+    if (summaryData?.thumbnailUrl) {
+      // 썸네일은 백엔드에서 URL로 내려받아 브라우저 캐시를 사용
+      return `${process.env.NEXT_PUBLIC_SPRING_API_URL}${summaryData.thumbnailUrl}`;
     }
     if (summaryData?.youtubeUrl && isYoutube(summaryData.youtubeUrl)) {
       return "/images/youtube.jpg";
@@ -100,7 +101,7 @@ export default function Page() {
 
   useEffect(() => {
     setImgSrc(getThumbnailSrc());
-}, [summaryData?.thumbnailBase64]);
+}, [summaryData?.thumbnailUrl]);
 
 
   // 메모 저장 함수
@@ -234,6 +235,7 @@ export default function Page() {
             {/* 썸네일 이미지 */}
             <Image
               src={imgSrc}
+              unoptimized={imgSrc.startsWith("http")} // 백엔드 썸네일은 쿠키 인증이 필요하므로 브라우저가 직접 요청
               width={500}
               height={300}
               alt={summaryData.customTitle ?? "썸네일"}
@@ -14,6 +14,7 @@ import { useAuth } from "@/hooks/use-auth";
 import { useRouter } from "next/navigation";
 import { customFetch } from "@/lib/fetch";
 import axios from "@/lib/axios";
+import { waitForSummaryJob } from "@/lib/summaryJob";
 
 const API_BASE_URL = process.env.NEXT_PUBLIC_SPRING_API_URL;
 
@@ -48,8 +49,8 @@ export default function UploadTabs() {
         throw new Error(data.message || "요약 실패");
       }
 
-      const lectureId = data.data.id;
       setProgress(100);
+      const lectureId = await waitForSummaryJob(data.data.jobId);
 
       router.push(`/summary/${lectureId}`);
     } catch (error: any) {
@@ -96,7 +97,7 @@ export default function UploadTabs() {
         },
       });
 
-      const lectureId = response.data.data.id;
+      const lectureId = await waitForSummaryJob(response.data.data.jobId);
       router.push(`/summary/${lectureId}`);
     }
     catch (error: any) {
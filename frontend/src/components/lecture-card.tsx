@@ -10,7 +10,7 @@ interface Lecture {
     lectureId: number;
     customTitle: string;
     duration: number;
-    thumbnailBase64?: string;
+    thumbnailUrl?: string;
     enrolledAt: string;
     youtubeUrl?: string;
 }
@@ -38,8 +38,9 @@ export default function LectureCard({ lecture, onDelete }: LectureCardProps) {
     };
 
     const getThumbnailSrc = (): string => {
-        if (lecture.thumbnailBase64) {
-            return `data:image/png;base64,${lecture.thumbnailBase64}`;
+        if (lecture.thumbnailUrl) {
+            // 썸네일은 백엔드에서 URL로 내려받아 브라우저 캐시를 사용
+            return `${process.env.NEXT_PUBLIC_SPRING_API_URL}${lecture.thumbnailUrl}`;
         }
 
         if (lecture.youtubeUrl && isYoutube(lecture.youtubeUrl)) {
@@ -73,6 +74,7 @@ export default function LectureCard({ lecture, onDelete }: LectureCardProps) {
                     <div className="aspect-video bg-muted rounded mb-3 overflow-hidden">
                         <Image
                             src={thumbnailSrc}
+                            unoptimized={thumbnailSrc.startsWith("http")} // 백엔드 썸네일은 쿠키 인증이 필요하므로 브라우저가 직접 요청
                             alt="썸네일"
                             width={320}
                             height={180}
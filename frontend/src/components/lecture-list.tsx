@@ -9,7 +9,7 @@ interface Lecture {
   lectureId: number
   customTitle: string
   duration: number;
-  thumbnailBase64?: string;
+  thumbnailUrl?: string;
   enrolledAt?: string,
   youtubeUrl?: string;
 }
@@ -36,8 +36,9 @@ const formatDuration = (duration: number): string => {
 
 export default function LectureList({ lectures, onDelete }: LectureListProps) {
   const getThumbnailSrc = (lecture: Lecture): string => {
-    if (lecture.thumbnailBase64) {
-      return `data:image/png;base64,${lecture.thumbnailBase64}`
+    if (lecture.thumbnailUrl) {
+      // 썸네일은 백엔드에서 URL로 내려받아 브라우저 캐시를 사용
+      return `${process.env.NEXT_PUBLIC_SPRING_API_URL}${lecture.thumbnailUrl}`
     }
     if (lecture.youtubeUrl && isYoutube(lecture.youtubeUrl)) {
       return "/images/youtube.jpg"
@@ -61,6 +62,7 @@ export default function LectureList({ lectures, onDelete }: LectureListProps) {
               <div className="w-32 h-20 flex-shrink-0 overflow-hidden rounded-md bg-muted">
                 <Image
                   src={thumbnailSrc}
+                  unoptimized={thumbnailSrc.startsWith("http")} // 백엔드 썸네일은 쿠키 인증이 필요하므로 브라우저가 직접 요청
                   alt="썸네일"
                   width={128}
                   height={80}
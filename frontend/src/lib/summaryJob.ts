@@ -0,0 +1,28 @@
+// lib/summaryJob.ts
+import { customFetch } from "@/lib/fetch";
+
+const API_BASE_URL = process.env.NEXT_PUBLIC_SPRING_API_URL!;
+
+const POLL_INTERVAL_MS = 2000;
+
+// 요약 작업이 끝날 때까지 상태를 조회하고, 완료되면 강의 ID를 반환
+export async function waitForSummaryJob(jobId: number): Promise<number> {
+  while (true) {
+    const res = await customFetch(`${API_BASE_URL}/api/lectures/jobs/${jobId}`);
+    const data = await res.json();
+
+    if (!res.ok || !data.success) {
+      throw new Error(data.message || "요약 작업 조회 실패");
+    }
+
+    const job = data.data;
+    if (job.status === "DONE") {
+      return job.lectureId;
+    }
+    if (job.status === "FAILED") {
+      throw new Error(job.errorMessage || "요약 생성에 실패했습니다.");
+    }
+
+    await new Promise((resolve) => setTimeout(resolve, POLL_INTERVAL_MS));
+  }
+}